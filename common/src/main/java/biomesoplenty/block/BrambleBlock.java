@@ -24,10 +24,25 @@ public class BrambleBlock extends PipeBlock
 {
     public static final MapCodec<BrambleBlock> CODEC = simpleCodec(BrambleBlock::new);
 
+    // States for every combination of connections, indexed by a bitmask of direction ordinals
+    private final BlockState[] statesByConnections = new BlockState[64];
+
     public BrambleBlock(Block.Properties builder)
     {
         super(0.25F, builder);
         this.registerDefaultState(this.stateDefinition.any().setValue(NORTH, Boolean.valueOf(false)).setValue(EAST, Boolean.valueOf(false)).setValue(SOUTH, Boolean.valueOf(false)).setValue(WEST, Boolean.valueOf(false)).setValue(UP, Boolean.valueOf(false)).setValue(DOWN, Boolean.valueOf(false)));
+
+        for (int connections = 0; connections < this.statesByConnections.length; connections++)
+        {
+            BlockState state = this.defaultBlockState();
+
+            for (Direction direction : Direction.values())
+            {
+                state = state.setValue(PROPERTY_BY_DIRECTION.get(direction), (connections & (1 << direction.ordinal())) != 0);
+            }
+
+            this.statesByConnections[connections] = state;
+        }
     }
 
     @Override
@@ -44,27 +59,32 @@ public class BrambleBlock extends PipeBlock
 
     public BlockState makeConnections(BlockGetter reader, BlockPos pos)
     {
-        BlockState block = reader.getBlockState(pos.below());
-        BlockState block1 = reader.getBlockState(pos.above());
-        BlockState block2 = reader.getBlockState(pos.north());
-        BlockState block3 = reader.getBlockState(pos.east());
-        BlockState block4 = reader.getBlockState(pos.south());
-        BlockState block5 = reader.getBlockState(pos.west());
-        return this.defaultBlockState()
-        		.setValue(DOWN, Boolean.valueOf(block.getBlock() == this || (block.getBlock() == BOPBlocks.BRAMBLE_LEAVES && block.getValue(BrambleLeavesBlock.FACING) == Direction.DOWN) || Block.isShapeFullBlock(block.getCollisionShape(reader, pos.below()))))
-        		.setValue(UP, Boolean.valueOf(block1.getBlock() == this || (block1.getBlock() == BOPBlocks.BRAMBLE_LEAVES && block1.getValue(BrambleLeavesBlock.FACING) == Direction.UP) || Block.isShapeFullBlock(block1.getCollisionShape(reader, pos.above()))))
-        		.setValue(NORTH, Boolean.valueOf(block2.getBlock() == this || (block2.getBlock() == BOPBlocks.BRAMBLE_LEAVES && block2.getValue(BrambleLeavesBlock.FACING) == Direction.NORTH) || Block.isShapeFullBlock(block2.getCollisionShape(reader, pos.north()))))
-        		.setValue(EAST, Boolean.valueOf(block3.getBlock() == this || (block3.getBlock() == BOPBlocks.BRAMBLE_LEAVES && block3.getValue(BrambleLeavesBlock.FACING) == Direction.EAST) || Block.isShapeFullBlock(block3.getCollisionShape(reader, pos.east()))))
-        		.setValue(SOUTH, Boolean.valueOf(block4.getBlock() == this || (block4.getBlock() == BOPBlocks.BRAMBLE_LEAVES && block4.getValue(BrambleLeavesBlock.FACING) == Direction.SOUTH) || Block.isShapeFullBlock(block4.getCollisionShape(reader, pos.south()))))
-        		.setValue(WEST, Boolean.valueOf(block5.getBlock() == this || (block5.getBlock() == BOPBlocks.BRAMBLE_LEAVES && block5.getValue(BrambleLeavesBlock.FACING) == Direction.WEST) || Block.isShapeFullBlock(block5.getCollisionShape(reader, pos.west()))));
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        int connections = 0;
+
+        for (Direction direction : Direction.values())
+        {
+            mutable.setWithOffset(pos, direction);
+
+            if (this.connectsTo(reader, mutable, reader.getBlockState(mutable), direction))
+            {
+                connections |= 1 << direction.ordinal();
+            }
+        }
+
+        return this.statesByConnections[connections];
+    }
+
+    private boolean connectsTo(BlockGetter reader, BlockPos neighbourPos, BlockState neighbour, Direction direction)
+    {
+        // The full block check is cached per state for blocks with a fixed shape, so the world is rarely consulted
+        return neighbour.is(this) || (neighbour.is(BOPBlocks.BRAMBLE_LEAVES) && neighbour.getValue(BrambleLeavesBlock.FACING) == direction) || neighbour.isCollisionShapeFullBlock(reader, neighbourPos);
     }
 
      @Override
      protected BlockState updateShape(BlockState state, LevelReader level, ScheduledTickAccess tickAccess, BlockPos pos, Direction facing, BlockPos facingPos, BlockState facingState, RandomSource random)
      {
-    	Block block = facingState.getBlock();
-     	boolean flag = block == this || (block == BOPBlocks.BRAMBLE_LEAVES && facingState.getValue(BrambleLeavesBlock.FACING) == facing) || Block.isShapeFullBlock(facingState.getCollisionShape(level, facingPos));
-     	return state.setValue(PROPERTY_BY_DIRECTION.get(facing), Boolean.valueOf(flag));
+     	return state.setValue(PROPERTY_BY_DIRECTION.get(facing), Boolean.valueOf(this.connectsTo(level, facingPos, facingState, facing)));
      }
 
      @Override
@@ -70,7 +70,7 @@ public class BrambleLeavesBlock extends DirectionalBlock
         Direction direction = state.getValue(FACING);
         BlockPos blockpos = pos.relative(direction.getOpposite());
         BlockState blockstate = worldIn.getBlockState(blockpos);
-        return blockstate.getBlock() == BOPBlocks.BRAMBLE || Block.isShapeFullBlock(blockstate.getCollisionShape(worldIn, blockpos));
+        return blockstate.getBlock() == BOPBlocks.BRAMBLE || blockstate.isCollisionShapeFullBlock(worldIn, blockpos);
     }
 
     @Override
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.block;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.LevelEvent;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.gameevent.GameEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collapses hanging plants such as strands and moss in one pass once they lose their support. Normally each segment
+ * only notices that the one above it is gone on the following tick, so a long strand breaks one block per tick.
+ */
+public class HangingChain
+{
+    // Only every few segments show break particles, a long strand breaking at once would otherwise flood the client
+    private static final int PARTICLE_INTERVAL = 4;
+
+    /**
+     * Removes the segment at the given position and every segment hanging from it.
+     */
+    public static void collapse(ServerLevel level, BlockPos pos, Direction growthDirection, Block body, Block head)
+    {
+        List<BlockPos> positions = new ArrayList<>();
+        List<BlockState> states = new ArrayList<>();
+        BlockPos.MutableBlockPos mutable = pos.mutable();
+        BlockState state = level.getBlockState(mutable);
+
+        while (state.is(body) || state.is(head))
+        {
+            positions.add(mutable.immutable());
+            states.add(state);
+            state = level.getBlockState(mutable.move(growthDirection));
+        }
+
+        if (positions.isEmpty())
+            return;
+
+        List<ItemStack> drops = new ArrayList<>();
+
+        for (int i = 0; i < positions.size(); i++)
+        {
+            BlockPos segmentPos = positions.get(i);
+            BlockState segmentState = states.get(i);
+
+            for (ItemStack drop : Block.getDrops(segmentState, level, segmentPos, null))
+            {
+                mergeDrop(drops, drop);
+            }
+
+            if (i % PARTICLE_INTERVAL == 0)
+            {
+                level.levelEvent(LevelEvent.PARTICLES_DESTROY_BLOCK, segmentPos, Block.getId(segmentState));
+            }
+
+            // Skip shape updates while removing, otherwise the segment below would turn into a tip or schedule its own break
+            level.setBlock(segmentPos, Blocks.AIR.defaultBlockState(), Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+        }
+
+        // Now let everything around the strand know it's gone
+        for (BlockPos segmentPos : positions)
+        {
+            level.updateNeighborsAt(segmentPos, Blocks.AIR);
+            Blocks.AIR.defaultBlockState().updateNeighbourShapes(level, segmentPos, Block.UPDATE_ALL);
+        }
+
+        BlockPos end = positions.get(positions.size() - 1);
+
+        for (ItemStack drop : drops)
+        {
+            Block.popResource(level, end, drop);
+        }
+
+        level.gameEvent(GameEvent.BLOCK_DESTROY, pos, GameEvent.Context.of(states.get(0)));
+    }
+
+    private static void mergeDrop(List<ItemStack> drops, ItemStack drop)
+    {
+        for (ItemStack existing : drops)
+        {
+            if (ItemStack.isSameItemSameComponents(existing, drop) && existing.getCount() < existing.getMaxStackSize())
+            {
+                int moved = Math.min(drop.getCount(), existing.getMaxStackSize() - existing.getCount());
+                existing.grow(moved);
+                drop.shrink(moved);
+
+                if (drop.isEmpty())
+                    return;
+            }
+        }
+
+        drops.add(drop);
+    }
+}
@@ -52,6 +52,16 @@ public class HangingStrandBlock extends GrowingPlantBodyBlock
         }
     }
 
+    @Override
+    protected void tick(BlockState state, ServerLevel level, BlockPos pos, RandomSource random)
+    {
+        // Take down everything hanging below at once, rather than one segment per tick
+        if (!state.canSurvive(level, pos))
+        {
+            HangingChain.collapse(level, pos, this.growthDirection, this, this.getHeadBlock());
+        }
+    }
+
     @Override
     public boolean isRandomlyTicking(BlockState state)
     {
@@ -20,12 +20,15 @@ import net.minecraft.world.level.block.*;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.EnumProperty;
+import net.minecraft.world.level.gameevent.GameEvent;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.level.material.Fluids;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.VoxelShape;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 
 public class HugeLilyPadBlock extends BushBlock
 {
@@ -35,6 +38,9 @@ public class HugeLilyPadBlock extends BushBlock
 
     protected static final VoxelShape AABB = Block.box(0.0D, 0.0D, 0.0D, 16.0D, 1.5D, 16.0D);
 
+    // Set while a pad's other quarters are being removed, blocks are only ever removed from the server thread
+    private static boolean removingQuarters = false;
+
     public HugeLilyPadBlock(Properties properties)
     {
         super(properties);
@@ -62,71 +68,83 @@ public class HugeLilyPadBlock extends BushBlock
     @Override
     protected BlockState updateShape(BlockState state, LevelReader level, ScheduledTickAccess tickAccess, BlockPos pos, Direction direction, BlockPos facingPos, BlockState facingState, RandomSource random)
     {
-        boolean lilypadSurvive = true;
-        Direction facing = state.getValue(FACING);
-        BlockPos sw = pos;
-        BlockPos nw = pos.relative(facing);
-        BlockPos ne = nw.relative(facing.getClockWise());
-        BlockPos se = pos.relative(facing.getClockWise());
-
-        if (state.getValue(QUARTER) == QuarterProperty.SOUTH_WEST)
-        {
-            sw = pos;
-            nw = pos.relative(facing);
-            ne = nw.relative(facing.getClockWise());
-            se = pos.relative(facing.getClockWise());
-        }
-        if (state.getValue(QUARTER) == QuarterProperty.NORTH_WEST)
+        if (!this.isIntact(level, pos, state))
         {
-            sw = pos.relative(facing.getOpposite());
-            nw = pos;
-            ne = pos.relative(facing.getClockWise());
-            se = sw.relative(facing.getClockWise());
-        }
-        if (state.getValue(QUARTER) == QuarterProperty.NORTH_EAST)
-        {
-            nw = pos.relative(facing.getCounterClockWise());
-            ne = pos;
-            se = pos.relative(facing.getOpposite());
-            sw = se.relative(facing);
+            return Blocks.AIR.defaultBlockState();
         }
-        if (state.getValue(QUARTER) == QuarterProperty.SOUTH_EAST)
+        else
         {
-            sw = pos.relative(facing.getCounterClockWise());
-            ne = pos.relative(facing);
-            se = pos;
-            nw = ne.relative(facing.getCounterClockWise());
+            return super.updateShape(state, level, tickAccess, pos, direction, facingPos, facingState, random);
         }
+    }
 
-        if (!level.getBlockState(sw).is(this) || !level.getBlockState(nw).is(this) || !level.getBlockState(ne).is(this) || !level.getBlockState(se).is(this))
+    @Override
+    protected void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean movedByPiston)
+    {
+        // Remove the rest of the pad together, rather than each quarter noticing in turn through updateShape.
+        // Removing the other quarters calls back into here for each of them, which mustn't start another removal.
+        if (!newState.is(this) && !removingQuarters)
         {
-            lilypadSurvive = false;
+            this.removeOtherQuarters(level, pos, state);
         }
 
-        if (level.getBlockState(sw).is(this) && level.getBlockState(sw).getValue(FACING) != facing && level.getBlockState(sw).getValue(QUARTER) != QuarterProperty.SOUTH_WEST)
-        {
-            lilypadSurvive = false;
-        }
-        if (level.getBlockState(nw).is(this) && level.getBlockState(nw).getValue(FACING) != facing && level.getBlockState(nw).getValue(QUARTER) != QuarterProperty.NORTH_WEST)
+        super.onRemove(state, level, pos, newState, movedByPiston);
+    }
+
+    private boolean isIntact(LevelReader level, BlockPos pos, BlockState state)
+    {
+        Direction facing = state.getValue(FACING);
+        BlockPos origin = state.getValue(QUARTER).getOrigin(pos, facing);
+
+        for (QuarterProperty quarter : QuarterProperty.values())
         {
-            lilypadSurvive = false;
+            BlockPos quarterPos = quarter.getPos(origin, facing);
+            BlockState quarterState = quarterPos.equals(pos) ? state : level.getBlockState(quarterPos);
+
+            if (!quarterState.is(this) || (quarterState.getValue(FACING) != facing && quarterState.getValue(QUARTER) != quarter))
+                return false;
         }
-        if (level.getBlockState(ne).is(this) && level.getBlockState(ne).getValue(FACING) != facing && level.getBlockState(ne).getValue(QUARTER) != QuarterProperty.NORTH_EAST)
+
+        return true;
+    }
+
+    private void removeOtherQuarters(Level level, BlockPos pos, BlockState state)
+    {
+        Direction facing = state.getValue(FACING);
+        BlockPos origin = state.getValue(QUARTER).getOrigin(pos, facing);
+        List<BlockPos> removed = new ArrayList<>(3);
+
+        removingQuarters = true;
+
+        try
         {
-            lilypadSurvive = false;
+            for (QuarterProperty quarter : QuarterProperty.values())
+            {
+                BlockPos quarterPos = quarter.getPos(origin, facing);
+                BlockState quarterState = level.getBlockState(quarterPos);
+
+                if (!quarterPos.equals(pos) && quarterState.is(this) && quarterState.getValue(FACING) == facing && quarterState.getValue(QUARTER) == quarter)
+                {
+                    // Break each quarter as destroyBlock would, but without neighbour or shape updates so that the
+                    // remaining quarters don't each find the pad broken and try to remove it again
+                    level.levelEvent(LevelEvent.PARTICLES_DESTROY_BLOCK, quarterPos, Block.getId(quarterState));
+                    Block.dropResources(quarterState, level, quarterPos);
+                    level.setBlock(quarterPos, Blocks.AIR.defaultBlockState(), Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+                    level.gameEvent(GameEvent.BLOCK_DESTROY, quarterPos, GameEvent.Context.of(quarterState));
+                    removed.add(quarterPos);
+                }
+            }
         }
-        if (level.getBlockState(se).is(this) && level.getBlockState(se).getValue(FACING) != facing && level.getBlockState(se).getValue(QUARTER) != QuarterProperty.SOUTH_EAST)
+        finally
         {
-            lilypadSurvive = false;
+            removingQuarters = false;
         }
 
-        if (lilypadSurvive == false)
-        {
-            return Blocks.AIR.defaultBlockState();
-        }
-        else
+        // Neighbours may include other pads, which must be able to remove themselves as usual
+        for (BlockPos removedPos : removed)
         {
-            return super.updateShape(state, level, tickAccess, pos, direction, facingPos, facingState, random);
+            level.updateNeighborsAt(removedPos, this);
+            Blocks.AIR.defaultBlockState().updateNeighbourShapes(level, removedPos, Block.UPDATE_ALL);
         }
     }
 
@@ -151,9 +169,9 @@ public class HugeLilyPadBlock extends BushBlock
     {
         super.setPlacedBy(p_49499_, p_49500_, p_49501_, p_49502_, p_49503_);
         if (!p_49499_.isClientSide) {
-            BlockPos blockpos = p_49500_.relative(p_49501_.getValue(FACING));
-            BlockPos blockpos1 = blockpos.relative(p_49501_.getValue(FACING).getClockWise());
-            BlockPos blockpos2 = p_49500_.relative(p_49501_.getValue(FACING).getClockWise());
+            BlockPos blockpos = QuarterProperty.NORTH_WEST.getPos(p_49500_, p_49501_.getValue(FACING));
+            BlockPos blockpos1 = QuarterProperty.NORTH_EAST.getPos(p_49500_, p_49501_.getValue(FACING));
+            BlockPos blockpos2 = QuarterProperty.SOUTH_EAST.getPos(p_49500_, p_49501_.getValue(FACING));
             p_49499_.setBlock(blockpos, p_49501_.setValue(QUARTER, QuarterProperty.NORTH_WEST), 26);
             p_49499_.setBlock(blockpos1, p_49501_.setValue(QUARTER, QuarterProperty.NORTH_EAST), 26);
             p_49499_.setBlock(blockpos2, p_49501_.setValue(QUARTER, QuarterProperty.SOUTH_EAST), 26);
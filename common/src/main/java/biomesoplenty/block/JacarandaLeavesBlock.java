@@ -10,10 +10,9 @@ import net.minecraft.core.Direction;
 import net.minecraft.util.ParticleUtils;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.state.BlockState;
 
-public class JacarandaLeavesBlock extends LeavesBlock
+public class JacarandaLeavesBlock extends LeavesBlockBOP
 {
     public JacarandaLeavesBlock(Properties p_273704_)
     {
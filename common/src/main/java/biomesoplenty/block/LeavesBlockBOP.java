@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.block;
+
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.block.LeavesBlock;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.function.BooleanSupplier;
+
+public class LeavesBlockBOP extends LeavesBlock
+{
+    // Set by the client. Leaves are drawn opaque in this mode, so faces between them are never visible.
+    public static BooleanSupplier fastLeaves = () -> false;
+
+    public LeavesBlockBOP(Properties properties)
+    {
+        super(properties);
+    }
+
+    @Override
+    protected boolean skipRendering(BlockState state, BlockState adjacentState, Direction direction)
+    {
+        if (adjacentState.getBlock() instanceof LeavesBlock && fastLeaves.getAsBoolean())
+        {
+            return true;
+        }
+
+        return super.skipRendering(state, adjacentState, direction);
+    }
+}
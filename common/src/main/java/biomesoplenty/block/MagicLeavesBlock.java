@@ -10,10 +10,9 @@ import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.util.ParticleUtils;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.state.BlockState;
 
-public class MagicLeavesBlock extends LeavesBlock
+public class MagicLeavesBlock extends LeavesBlockBOP
 {
     public MagicLeavesBlock(Properties p_273704_)
     {
@@ -10,11 +10,10 @@ import net.minecraft.core.Direction;
 import net.minecraft.util.ParticleUtils;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
 
-public class SnowblossomLeavesBlock extends LeavesBlock
+public class SnowblossomLeavesBlock extends LeavesBlockBOP
 {
     public SnowblossomLeavesBlock(BlockBehaviour.Properties p_273704_)
     {
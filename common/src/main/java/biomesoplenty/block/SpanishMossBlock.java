@@ -8,7 +8,9 @@ import biomesoplenty.api.block.BOPBlocks;
 import com.mojang.serialization.MapCodec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.BlockTags;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.GrowingPlantBodyBlock;
@@ -47,4 +49,14 @@ public class SpanishMossBlock extends GrowingPlantBodyBlock
             return block == this.getHeadBlock() || block == this.getBodyBlock() || blockstate.is(BlockTags.LEAVES) || blockstate.is(BlockTags.LOGS);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    protected void tick(BlockState state, ServerLevel level, BlockPos pos, RandomSource random)
+    {
+        // Take down everything hanging below at once, rather than one segment per tick
+        if (!state.canSurvive(level, pos))
+        {
+            HangingChain.collapse(level, pos, this.growthDirection, this, this.getHeadBlock());
+        }
+    }
+}
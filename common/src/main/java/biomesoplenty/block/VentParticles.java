@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.block;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * The kinds of particles spawned by vents and fumaroles, which hot springs and volcanic biomes contain by the hundred.
+ * Whether a vent may emit is decided on the client, which installs its check from ModClient. Until then every vent emits.
+ */
+public enum VentParticles
+{
+    STEAM(10),
+    BUBBLES(10),
+    SMOKE(20);
+
+    public static EmitCheck check = (particles, level, pos) -> true;
+
+    private final int cooldownTicks;
+
+    VentParticles(int cooldownTicks)
+    {
+        this.cooldownTicks = cooldownTicks;
+    }
+
+    /**
+     * The minimum number of ticks between emissions from vents close to each other.
+     */
+    public int getCooldownTicks()
+    {
+        return this.cooldownTicks;
+    }
+
+    public boolean tryEmit(Level level, BlockPos pos)
+    {
+        return check.tryEmit(this, level, pos);
+    }
+
+    @FunctionalInterface
+    public interface EmitCheck
+    {
+        boolean tryEmit(VentParticles particles, Level level, BlockPos pos);
+    }
+}
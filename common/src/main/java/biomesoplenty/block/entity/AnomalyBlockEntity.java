@@ -8,32 +8,33 @@ import biomesoplenty.api.block.BOPBlockEntities;
 import biomesoplenty.block.AnomalyBlock;
 import com.google.common.base.Suppliers;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Registry;
-import net.minecraft.core.registries.Registries;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 
-import java.util.LinkedHashSet;
-import java.util.Map;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 public class AnomalyBlockEntity extends BlockEntity
 {
+    // Every anomaly picks from the same blocks, so they're only gathered once rather than per anomaly
+    private static final Supplier<BlockState[]> RENDER_STATES = Suppliers.memoize(() ->
+        BuiltInRegistries.BLOCK.entrySet().stream().map(e -> e.getValue().defaultBlockState()).filter(state -> state.getRenderShape() == RenderShape.MODEL).toArray(BlockState[]::new));
+
+    // How each anomaly type turns a base index into the one shown, as index * multiplier + offset. These only depend
+    // on the game time, so are shared by every anomaly and recomputed once per tick.
+    private static final int[] SCHEDULE_MULTIPLIERS = new int[AnomalyBlock.AnomalyType.values().length];
+    private static final int[] SCHEDULE_OFFSETS = new int[AnomalyBlock.AnomalyType.values().length];
+    private static long scheduleTime = Long.MIN_VALUE;
+
+    private int baseIndex = -1;
     private long lastTime = -1;
     private BlockState lastState = null;
 
-    private final Supplier<LinkedHashSet<BlockState>> renderStates = Suppliers.memoize(() -> {
-        Registry<Block> blockRegistry = level.registryAccess().lookupOrThrow(Registries.BLOCK);
-        return blockRegistry.entrySet().stream().map(e -> e.getValue().defaultBlockState()).filter(state -> state.getRenderShape() == RenderShape.MODEL).collect(Collectors.toCollection(LinkedHashSet::new));
-    });
-
     public AnomalyBlockEntity(BlockPos pos, BlockState state) {
         super(BOPBlockEntities.ANOMALY, pos, state);
     }
@@ -49,31 +50,51 @@ public class AnomalyBlockEntity extends BlockEntity
         if (lastTime == time && lastState != null)
             return lastState;
 
-        RandomSource random = RandomSource.create(Mth.getSeed(this.getBlockPos()));
-        BlockState state = this.getBlockState();
+        final BlockState[] renderStates = RENDER_STATES.get();
 
-        final var renderStates = this.renderStates.get();
-        int index = random.nextInt(renderStates.size());
+        if (this.baseIndex < 0)
+            this.baseIndex = RandomSource.create(Mth.getSeed(this.getBlockPos())).nextInt(renderStates.length);
 
-        switch (state.getValue(AnomalyBlock.ANOMALY_TYPE))
-        {
-            case VOLATILE -> index *= (int) (time / 2L);
-            case QUIRKY -> index += (int) (time / 10L);
-            case UNSTABLE -> {
-                // Changes slowly most of the time, but has sudden bursts of rapid changes
-                final float slowWeight = 0.98F;
-                int mode = (Mth.sign(Mth.sin((float)time / 20.0F) + slowWeight) + 1) / 2;
-                if (mode > 0) index += (int)(time/ 100L);
-                else index += (int) time;
-            }
-        }
+        updateSchedule(time);
+        int type = this.getBlockState().getValue(AnomalyBlock.ANOMALY_TYPE).ordinal();
+        int index = this.baseIndex * SCHEDULE_MULTIPLIERS[type] + SCHEDULE_OFFSETS[type];
 
-        index = Mth.positiveModulo(index, renderStates.size()); // For some bizarre reason some people have a negative time?
-        BlockState renderState = renderStates.stream().skip(index).findFirst().orElseThrow();
+        index = Mth.positiveModulo(index, renderStates.length); // For some bizarre reason some people have a negative time?
+        BlockState renderState = renderStates[index];
 
         lastState = renderState;
         lastTime = time;
 
         return renderState;
     }
+
+    private static void updateSchedule(long time)
+    {
+        if (scheduleTime == time)
+            return;
+
+        for (AnomalyBlock.AnomalyType type : AnomalyBlock.AnomalyType.values())
+        {
+            int multiplier = 1;
+            int offset = 0;
+
+            switch (type)
+            {
+                case VOLATILE -> multiplier = (int) (time / 2L);
+                case QUIRKY -> offset = (int) (time / 10L);
+                case UNSTABLE -> {
+                    // Changes slowly most of the time, but has sudden bursts of rapid changes
+                    final float slowWeight = 0.98F;
+                    int mode = (Mth.sign(Mth.sin((float)time / 20.0F) + slowWeight) + 1) / 2;
+                    if (mode > 0) offset = (int)(time/ 100L);
+                    else offset = (int) time;
+                }
+            }
+
+            SCHEDULE_MULTIPLIERS[type.ordinal()] = multiplier;
+            SCHEDULE_OFFSETS[type.ordinal()] = offset;
+        }
+
+        scheduleTime = time;
+    }
 }
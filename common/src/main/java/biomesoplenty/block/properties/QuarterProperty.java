@@ -1,17 +1,43 @@
 package biomesoplenty.block.properties;
 
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.util.StringRepresentable;
 
+/**
+ * A quarter of a 2x2 block structure. Quarters are relative to the structure's facing, with the south west quarter at
+ * its origin, north towards the facing direction and east clockwise from it.
+ */
 public enum QuarterProperty implements StringRepresentable {
-    SOUTH_EAST("south_east"),
-    SOUTH_WEST("south_west"),
-    NORTH_WEST("north_west"),
-    NORTH_EAST("north_east");
+    SOUTH_EAST("south_east", 0, 1),
+    SOUTH_WEST("south_west", 0, 0),
+    NORTH_WEST("north_west", 1, 0),
+    NORTH_EAST("north_east", 1, 1);
 
     private final String name;
+    private final int forward;
+    private final int right;
 
-    QuarterProperty(String p_61743_) {
+    QuarterProperty(String p_61743_, int forward, int right) {
         this.name = p_61743_;
+        this.forward = forward;
+        this.right = right;
+    }
+
+    /**
+     * Returns the position of this quarter in a structure with the given origin and facing.
+     */
+    public BlockPos getPos(BlockPos origin, Direction facing) {
+        Direction clockwise = facing.getClockWise();
+        return origin.offset(facing.getStepX() * this.forward + clockwise.getStepX() * this.right, 0, facing.getStepZ() * this.forward + clockwise.getStepZ() * this.right);
+    }
+
+    /**
+     * Returns the origin of the structure containing this quarter at the given position.
+     */
+    public BlockPos getOrigin(BlockPos pos, Direction facing) {
+        Direction clockwise = facing.getClockWise();
+        return pos.offset(-facing.getStepX() * this.forward - clockwise.getStepX() * this.right, 0, -facing.getStepZ() * this.forward - clockwise.getStepZ() * this.right);
     }
 
     public String getName() {
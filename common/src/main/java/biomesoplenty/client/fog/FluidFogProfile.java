@@ -0,0 +1,14 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.client.fog;
+
+import com.mojang.blaze3d.shaders.FogShape;
+
+/**
+ * Fog settings applied while the camera is submerged in a BOP fluid.
+ */
+public record FluidFogProfile(float red, float green, float blue, float alpha, float start, float end, FogShape shape)
+{
+}
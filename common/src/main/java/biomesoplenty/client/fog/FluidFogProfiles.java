@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.client.fog;
+
+import biomesoplenty.api.block.BOPFluids;
+import com.google.common.collect.Maps;
+import com.mojang.blaze3d.shaders.FogShape;
+import net.minecraft.client.Camera;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.Vec3;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+
+public class FluidFogProfiles
+{
+    private static final FluidFogProfile BLOOD = new FluidFogProfile(0.407F, 0.121F, 0.137F, 1.0F, 0.125F, 5.0F, FogShape.CYLINDER);
+    private static final FluidFogProfile LIQUID_NULL = new FluidFogProfile(0.6274509803921569F, 0.12549019607843137F, 0.9411764705882353F, 0.5F, 0.1F, 2.5F, FogShape.CYLINDER);
+
+    private static final Map<Fluid, FluidFogProfile> PROFILES = Maps.newHashMap();
+
+    private static Level lastLevel;
+    private static long lastGameTime;
+    private static float lastPartialTick = Float.NaN;
+    private static Vec3 lastCameraPos;
+    @Nullable
+    private static FluidFogProfile lastProfile;
+
+    public static void setup()
+    {
+        register(BOPFluids.BLOOD, BLOOD);
+        register(BOPFluids.FLOWING_BLOOD, BLOOD);
+        register(BOPFluids.LIQUID_NULL, LIQUID_NULL);
+        register(BOPFluids.FLOWING_LIQUID_NULL, LIQUID_NULL);
+    }
+
+    public static void register(Fluid fluid, FluidFogProfile profile)
+    {
+        PROFILES.put(fluid, profile);
+    }
+
+    @Nullable
+    public static FluidFogProfile getProfile(Fluid fluid)
+    {
+        return PROFILES.get(fluid);
+    }
+
+    /**
+     * Returns the fog profile of the BOP fluid the camera is submerged in, or null if there is none.
+     * The fog color and fog setup are both queried every frame, so the result is reused until the frame changes.
+     */
+    @Nullable
+    public static FluidFogProfile getSubmergedProfile(Camera camera, Level level, float partialTick)
+    {
+        Vec3 cameraPos = camera.getPosition();
+
+        // Fog is only set up on the render thread. A new game tick, partial tick or camera position means a new frame.
+        if (level != lastLevel || level.getGameTime() != lastGameTime || partialTick != lastPartialTick || !cameraPos.equals(lastCameraPos))
+        {
+            lastLevel = level;
+            lastGameTime = level.getGameTime();
+            lastPartialTick = partialTick;
+            lastCameraPos = cameraPos;
+            lastProfile = resolveSubmergedProfile(camera, level);
+        }
+
+        return lastProfile;
+    }
+
+    @Nullable
+    private static FluidFogProfile resolveSubmergedProfile(Camera camera, Level level)
+    {
+        BlockPos blockPos = camera.getBlockPosition();
+        FluidState fluidState = level.getFluidState(blockPos);
+
+        if (fluidState.isEmpty())
+        {
+            return null;
+        }
+
+        FluidFogProfile profile = PROFILES.get(fluidState.getType());
+
+        if (profile == null || camera.getPosition().y >= blockPos.getY() + fluidState.getHeight(level, blockPos))
+        {
+            return null;
+        }
+
+        return profile;
+    }
+}
@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.client.particle;
+
+import biomesoplenty.block.VentParticles;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import net.minecraft.client.Camera;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Vector3f;
+
+import java.util.Arrays;
+
+/**
+ * Limits the particles spawned by vents, fumaroles and similar blocks. Nearby blocks are grouped into clusters, and once
+ * a cluster has emitted a kind of particle it waits out that kind's cooldown before emitting it again, so dense vent
+ * fields spawn about as much as a few scattered vents. Blocks behind the camera don't spawn particles at all.
+ */
+public class VentEmitters
+{
+    // Clusters are 4x4x4 blocks
+    private static final int CLUSTER_SHIFT = 2;
+    // Particles drift, so only cull blocks behind the camera once they're a little way away
+    private static final int BEHIND_CULL_DISTANCE_SQR = 8 * 8;
+    // Expired cooldowns are only cleared out once this many clusters are tracked
+    private static final int PRUNE_THRESHOLD = 1024;
+
+    private static final Long2LongOpenHashMap[] NEXT_EMIT_TIMES = new Long2LongOpenHashMap[VentParticles.values().length];
+
+    static
+    {
+        Arrays.setAll(NEXT_EMIT_TIMES, i -> new Long2LongOpenHashMap());
+    }
+
+    /**
+     * Returns true if the block at the given position may spawn particles of the given kind this tick, starting its
+     * cluster's cooldown if so.
+     */
+    public static boolean tryEmit(VentParticles particles, Level level, BlockPos pos)
+    {
+        Camera camera = Minecraft.getInstance().gameRenderer.getMainCamera();
+        Vec3 cameraPos = camera.getPosition();
+        double dx = pos.getX() + 0.5D - cameraPos.x;
+        double dy = pos.getY() + 0.5D - cameraPos.y;
+        double dz = pos.getZ() + 0.5D - cameraPos.z;
+
+        if (dx * dx + dy * dy + dz * dz > BEHIND_CULL_DISTANCE_SQR)
+        {
+            Vector3f look = camera.getLookVector();
+            if (dx * look.x() + dy * look.y() + dz * look.z() < 0.0D)
+                return false;
+        }
+
+        Long2LongOpenHashMap nextEmitTimes = NEXT_EMIT_TIMES[particles.ordinal()];
+        long time = level.getGameTime();
+        long cluster = BlockPos.asLong(pos.getX() >> CLUSTER_SHIFT, pos.getY() >> CLUSTER_SHIFT, pos.getZ() >> CLUSTER_SHIFT);
+
+        if (isCoolingDown(nextEmitTimes.getOrDefault(cluster, Long.MIN_VALUE), time, particles))
+            return false;
+
+        if (nextEmitTimes.size() >= PRUNE_THRESHOLD)
+        {
+            nextEmitTimes.long2LongEntrySet().removeIf((Long2LongMap.Entry entry) -> !isCoolingDown(entry.getLongValue(), time, particles));
+        }
+
+        nextEmitTimes.put(cluster, time + particles.getCooldownTicks());
+        return true;
+    }
+
+    private static boolean isCoolingDown(long nextEmitTime, long time, VentParticles particles)
+    {
+        // Game time can jump backwards when switching worlds, in which case cooldowns from the old world don't apply
+        return nextEmitTime > time && nextEmitTime - time <= particles.getCooldownTicks();
+    }
+}
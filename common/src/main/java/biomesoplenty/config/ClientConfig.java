@@ -0,0 +1,25 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.config;
+
+import biomesoplenty.core.BiomesOPlenty;
+import glitchcore.config.Config;
+import glitchcore.util.Environment;
+
+public class ClientConfig extends Config
+{
+    public boolean cullFastLeaves;
+
+    public ClientConfig()
+    {
+        super(Environment.getConfigPath().resolve(BiomesOPlenty.MOD_ID + "/client.toml"));
+    }
+
+    @Override
+    public void load()
+    {
+        cullFastLeaves = add("rendering.cull_fast_leaves", true, "Skip faces between adjacent BOP leaves when graphics are set to Fast, where leaves are drawn opaque. Greatly reduces overdraw in dense canopies.");
+    }
+}
@@ -16,6 +16,9 @@ public class GenerationConfig extends Config
     public int bopNetherRegionWeight;
     public int bopOverworldRareRegionWeight;
     public int bopNetherRareRegionWeight;
+    public boolean decorationBudgetEnabled;
+    public int decorationBudgetMillis;
+    public int decorationBudgetThinningPercent;
 
     public GenerationConfig()
     {
@@ -31,5 +34,9 @@ public class GenerationConfig extends Config
 
         bopNetherRegionWeight = addNumber("nether.bop_nether_region_weight", 13, 0, Integer.MAX_VALUE, "The weighting of bop biome regions in the nether.");
         bopNetherRareRegionWeight = addNumber("nether.bop_nether_rare_region_weight", 2, 0, Integer.MAX_VALUE, "The weighting of rare bop biome regions in the nether.");
+
+        decorationBudgetEnabled = add("decoration_budget.enabled", false, "Thin out cosmetic features such as splatters, leaf piles and cobwebs in chunks which take too long to decorate.");
+        decorationBudgetMillis = addNumber("decoration_budget.budget_millis", 20, 1, 10000, "The time in milliseconds a chunk may spend decorating before cosmetic features are thinned.");
+        decorationBudgetThinningPercent = addNumber("decoration_budget.thinning_percent", 50, 0, 100, "The percentage of cosmetic features skipped in chunks over budget.");
     }
 }
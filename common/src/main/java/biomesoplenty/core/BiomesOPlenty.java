@@ -6,6 +6,7 @@ package biomesoplenty.core;
 
 import biomesoplenty.api.BOPAPI;
 import biomesoplenty.init.*;
+import biomesoplenty.util.benchmark.StartupProfiler;
 import biomesoplenty.worldgen.carver.BOPWorldCarvers;
 import biomesoplenty.worldgen.feature.BOPBaseFeatures;
 import glitchcore.event.EventManager;
@@ -23,33 +24,34 @@ public class BiomesOPlenty
     public static void init()
     {
         // Initialize the config file first so other things can rely on it
-        ModConfig.setup();
+        StartupProfiler.time("config", ModConfig::setup);
 
-        ModBiomes.setup();
-        ModTags.setup();
+        StartupProfiler.time("biomes", ModBiomes::setup);
+        StartupProfiler.time("tags", ModTags::setup);
         addRegistrars();
-        addHandlers();
+        StartupProfiler.time("handlers", BiomesOPlenty::addHandlers);
     }
 
     private static void addRegistrars()
     {
         var regHelper = RegistryHelper.create();
-        regHelper.addRegistrar(Registries.BLOCK, ModBlocks::setup);
-        regHelper.addRegistrar(Registries.BLOCK_ENTITY_TYPE, ModBlockEntities::registerBlockEntities);
-        regHelper.addRegistrar(Registries.FLUID, ModFluids::registerFluids);
-        regHelper.addRegistrar(Registries.ITEM, ModItems::setup);
-        regHelper.addRegistrar(Registries.FEATURE, BOPBaseFeatures::registerFeatures);
-        regHelper.addRegistrar(Registries.CARVER, BOPWorldCarvers::registerCarvers);
-        regHelper.addRegistrar(Registries.ENTITY_TYPE, ModEntities::registerEntities);
-        regHelper.addRegistrar(Registries.CREATIVE_MODE_TAB, ModCreativeTab::registerCreativeTabs);
-        regHelper.addRegistrar(Registries.PARTICLE_TYPE, ModParticles::registerParticles);
-        regHelper.addRegistrar(Registries.SOUND_EVENT, ModSounds::registerSounds);
+        regHelper.addRegistrar(Registries.BLOCK, StartupProfiler.registrar("blocks", ModBlocks::setup));
+        regHelper.addRegistrar(Registries.BLOCK_ENTITY_TYPE, StartupProfiler.registrar("block_entities", ModBlockEntities::registerBlockEntities));
+        regHelper.addRegistrar(Registries.FLUID, StartupProfiler.registrar("fluids", ModFluids::registerFluids));
+        regHelper.addRegistrar(Registries.ITEM, StartupProfiler.registrar("items", ModItems::setup));
+        regHelper.addRegistrar(Registries.FEATURE, StartupProfiler.registrar("features", BOPBaseFeatures::registerFeatures));
+        regHelper.addRegistrar(Registries.CARVER, StartupProfiler.registrar("carvers", BOPWorldCarvers::registerCarvers));
+        regHelper.addRegistrar(Registries.ENTITY_TYPE, StartupProfiler.registrar("entities", ModEntities::registerEntities));
+        regHelper.addRegistrar(Registries.CREATIVE_MODE_TAB, StartupProfiler.registrar("creative_tabs", ModCreativeTab::registerCreativeTabs));
+        regHelper.addRegistrar(Registries.PARTICLE_TYPE, StartupProfiler.registrar("particles", ModParticles::registerParticles));
+        regHelper.addRegistrar(Registries.SOUND_EVENT, StartupProfiler.registrar("sounds", ModSounds::registerSounds));
     }
 
     private static void addHandlers()
     {
         // Misc handlers
         if (ModConfig.gameplay.wanderingTraderTrades) { EventManager.addListener(ModVillagerTrades::addWanderingVillagerTrades); }
+        EventManager.addListener(ModCommands::registerCommands);
 
         if (Environment.isClient())
         {
@@ -59,7 +61,7 @@ public class BiomesOPlenty
 
     public static void setupTerraBlender()
     {
-        ModBiomes.setupTerraBlender();
+        StartupProfiler.time("terrablender", ModBiomes::setupTerraBlender);
     }
 
 }
@@ -160,18 +160,18 @@ public class ModBlocks
 
         //Trees
         ORIGIN_SAPLING = register(func, "origin_sapling", p -> new SaplingBlockBOP(BOPTreeGrowers.ORIGIN, p), BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).noCollission().randomTicks().instabreak().sound(SoundType.GRASS));
-        ORIGIN_LEAVES = register(func, "origin_leaves", LeavesBlock::new, BlockBehaviour.Properties.of().pushReaction(PushReaction.DESTROY).mapColor(MapColor.EMERALD).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
+        ORIGIN_LEAVES = register(func, "origin_leaves", LeavesBlockBOP::new, BlockBehaviour.Properties.of().pushReaction(PushReaction.DESTROY).mapColor(MapColor.EMERALD).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
         FLOWERING_OAK_SAPLING = register(func, "flowering_oak_sapling", p -> new SaplingBlockBOP(BOPTreeGrowers.FLOWERING_OAK, p), BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).noCollission().randomTicks().instabreak().sound(SoundType.GRASS));
-        FLOWERING_OAK_LEAVES = register(func, "flowering_oak_leaves", LeavesBlock::new, BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
+        FLOWERING_OAK_LEAVES = register(func, "flowering_oak_leaves", LeavesBlockBOP::new, BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
         CYPRESS_SAPLING = register(func, "cypress_sapling", p -> new SaplingBlockBOP(BOPTreeGrowers.CYPRESS, p), BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).noCollission().randomTicks().instabreak().sound(SoundType.GRASS));
-        CYPRESS_LEAVES = register(func, "cypress_leaves", LeavesBlock::new, BlockBehaviour.Properties.of().pushReaction(PushReaction.DESTROY).mapColor(MapColor.PLANT).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
+        CYPRESS_LEAVES = register(func, "cypress_leaves", LeavesBlockBOP::new, BlockBehaviour.Properties.of().pushReaction(PushReaction.DESTROY).mapColor(MapColor.PLANT).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
         SNOWBLOSSOM_SAPLING = register(func, "snowblossom_sapling", p -> new SaplingBlockBOP(BOPTreeGrowers.SNOWBLOSSOM, p), BlockBehaviour.Properties.of().mapColor(MapColor.SNOW).pushReaction(PushReaction.DESTROY).noCollission().randomTicks().instabreak().sound(SoundType.CHERRY_SAPLING));
         SNOWBLOSSOM_LEAVES = register(func, "snowblossom_leaves", SnowblossomLeavesBlock::new, BlockBehaviour.Properties.of().pushReaction(PushReaction.DESTROY).mapColor(MapColor.SNOW).strength(0.2F).randomTicks().sound(SoundType.CHERRY_LEAVES).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
         RAINBOW_BIRCH_SAPLING = register(func, "rainbow_birch_sapling", p -> new SaplingBlockBOP(BOPTreeGrowers.RAINBOW_BIRCH, p), BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).noCollission().randomTicks().instabreak().sound(SoundType.GRASS).lightLevel((state) -> 5));
-        RAINBOW_BIRCH_LEAVES = register(func, "rainbow_birch_leaves", LeavesBlock::new, BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never).lightLevel((state) -> 8));
+        RAINBOW_BIRCH_LEAVES = register(func, "rainbow_birch_leaves", LeavesBlockBOP::new, BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never).lightLevel((state) -> 8));
 
         FIR_SAPLING = register(func, "fir_sapling", p -> new SaplingBlockBOP(BOPTreeGrowers.FIR, p), BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).noCollission().randomTicks().instabreak().sound(SoundType.GRASS));
-        FIR_LEAVES = register(func, "fir_leaves", LeavesBlock::new, BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
+        FIR_LEAVES = register(func, "fir_leaves", LeavesBlockBOP::new, BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
         FIR_LOG = register(func, "fir_log", RotatedPillarBlock::new, logProperties(MapColor.TERRACOTTA_WHITE, MapColor.TERRACOTTA_LIGHT_GRAY, SoundType.WOOD));
         FIR_WOOD = register(func, "fir_wood", RotatedPillarBlock::new, BlockBehaviour.Properties.of().instrument(NoteBlockInstrument.BASS).ignitedByLava().mapColor(MapColor.TERRACOTTA_LIGHT_GRAY).strength(2.0F).sound(SoundType.WOOD));
         STRIPPED_FIR_LOG = register(func, "stripped_fir_log", RotatedPillarBlock::new, logProperties(MapColor.TERRACOTTA_WHITE, MapColor.TERRACOTTA_WHITE, SoundType.WOOD));
@@ -191,7 +191,7 @@ public class ModBlocks
         FIR_WALL_HANGING_SIGN = register(func, "fir_wall_hanging_sign", p -> new WallHangingSignBlockBOP(BOPWoodTypes.FIR, p), wallVariant(FIR_HANGING_SIGN, true).mapColor(FIR_PLANKS.defaultMapColor()).instrument(NoteBlockInstrument.BASS).ignitedByLava().forceSolidOn().noCollission().strength(1.0F));
 
         PINE_SAPLING = register(func, "pine_sapling", p -> new SaplingBlockBOP(BOPTreeGrowers.PINE, p), BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).noCollission().randomTicks().instabreak().sound(SoundType.GRASS));
-        PINE_LEAVES = register(func, "pine_leaves", LeavesBlock::new, BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
+        PINE_LEAVES = register(func, "pine_leaves", LeavesBlockBOP::new, BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
         PINE_LOG = register(func, "pine_log", RotatedPillarBlock::new, logProperties(MapColor.TERRACOTTA_LIGHT_GREEN, MapColor.DIRT, SoundType.WOOD));
         PINE_WOOD = register(func, "pine_wood", RotatedPillarBlock::new, BlockBehaviour.Properties.of().instrument(NoteBlockInstrument.BASS).ignitedByLava().mapColor(MapColor.DIRT).strength(2.0F).sound(SoundType.WOOD));
         STRIPPED_PINE_LOG = register(func, "stripped_pine_log", RotatedPillarBlock::new, logProperties(MapColor.TERRACOTTA_LIGHT_GREEN, MapColor.TERRACOTTA_LIGHT_GREEN, SoundType.WOOD));
@@ -238,7 +238,7 @@ public class ModBlocks
         MAPLE_WALL_HANGING_SIGN = register(func, "maple_wall_hanging_sign", p -> new WallHangingSignBlockBOP(BOPWoodTypes.MAPLE, p), wallVariant(MAPLE_HANGING_SIGN, true).mapColor(MAPLE_PLANKS.defaultMapColor()).instrument(NoteBlockInstrument.BASS).ignitedByLava().forceSolidOn().noCollission().strength(1.0F));
 
         REDWOOD_SAPLING = register(func, "redwood_sapling", p -> new SaplingBlockBOP(BOPTreeGrowers.REDWOOD, p), BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).noCollission().randomTicks().instabreak().sound(SoundType.GRASS));
-        REDWOOD_LEAVES = register(func, "redwood_leaves", LeavesBlock::new, BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
+        REDWOOD_LEAVES = register(func, "redwood_leaves", LeavesBlockBOP::new, BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
         REDWOOD_LOG = register(func, "redwood_log", RotatedPillarBlock::new, logProperties(MapColor.CRIMSON_NYLIUM, MapColor.TERRACOTTA_ORANGE, SoundType.WOOD));
         REDWOOD_WOOD = register(func, "redwood_wood", RotatedPillarBlock::new, BlockBehaviour.Properties.of().instrument(NoteBlockInstrument.BASS).ignitedByLava().mapColor(MapColor.TERRACOTTA_ORANGE).strength(2.0F).sound(SoundType.WOOD));
         STRIPPED_REDWOOD_LOG = register(func, "stripped_redwood_log", RotatedPillarBlock::new, logProperties(MapColor.CRIMSON_NYLIUM, MapColor.CRIMSON_NYLIUM, SoundType.WOOD));
@@ -258,7 +258,7 @@ public class ModBlocks
         REDWOOD_WALL_HANGING_SIGN = register(func, "redwood_wall_hanging_sign", p -> new WallHangingSignBlockBOP(BOPWoodTypes.REDWOOD, p), wallVariant(REDWOOD_HANGING_SIGN, true).mapColor(REDWOOD_PLANKS.defaultMapColor()).instrument(NoteBlockInstrument.BASS).ignitedByLava().forceSolidOn().noCollission().strength(1.0F));
 
         MAHOGANY_SAPLING = register(func, "mahogany_sapling", p -> new SaplingBlockBOP(BOPTreeGrowers.MAHOGANY, p), BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).noCollission().randomTicks().instabreak().sound(SoundType.GRASS));
-        MAHOGANY_LEAVES = register(func, "mahogany_leaves", LeavesBlock::new, BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
+        MAHOGANY_LEAVES = register(func, "mahogany_leaves", LeavesBlockBOP::new, BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
         MAHOGANY_LOG = register(func, "mahogany_log", RotatedPillarBlock::new, logProperties(MapColor.TERRACOTTA_MAGENTA, MapColor.DIRT, SoundType.WOOD));
         MAHOGANY_WOOD = register(func, "mahogany_wood", RotatedPillarBlock::new, BlockBehaviour.Properties.of().instrument(NoteBlockInstrument.BASS).ignitedByLava().mapColor(MapColor.DIRT).strength(2.0F).sound(SoundType.WOOD));
         STRIPPED_MAHOGANY_LOG = register(func, "stripped_mahogany_log", RotatedPillarBlock::new, logProperties(MapColor.TERRACOTTA_MAGENTA, MapColor.TERRACOTTA_MAGENTA, SoundType.WOOD));
@@ -298,7 +298,7 @@ public class ModBlocks
         JACARANDA_WALL_HANGING_SIGN = register(func, "jacaranda_wall_hanging_sign", p -> new WallHangingSignBlockBOP(BOPWoodTypes.JACARANDA, p), wallVariant(JACARANDA_HANGING_SIGN, true).mapColor(JACARANDA_PLANKS.defaultMapColor()).instrument(NoteBlockInstrument.BASS).ignitedByLava().forceSolidOn().noCollission().strength(1.0F));
 
         PALM_SAPLING = register(func, "palm_sapling", p -> new SaplingBlockBOP(BOPTreeGrowers.PALM, p), BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).noCollission().randomTicks().instabreak().sound(SoundType.GRASS));
-        PALM_LEAVES = register(func, "palm_leaves", LeavesBlock::new, BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
+        PALM_LEAVES = register(func, "palm_leaves", LeavesBlockBOP::new, BlockBehaviour.Properties.of().mapColor(MapColor.PLANT).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
         PALM_LOG = register(func, "palm_log", RotatedPillarBlock::new, logProperties(MapColor.TERRACOTTA_YELLOW, MapColor.PODZOL, SoundType.WOOD));
         PALM_WOOD = register(func, "palm_wood", RotatedPillarBlock::new, BlockBehaviour.Properties.of().instrument(NoteBlockInstrument.BASS).ignitedByLava().mapColor(MapColor.PODZOL).strength(2.0F).sound(SoundType.WOOD));
         STRIPPED_PALM_LOG = register(func, "stripped_palm_log", RotatedPillarBlock::new, logProperties(MapColor.TERRACOTTA_YELLOW, MapColor.TERRACOTTA_YELLOW, SoundType.WOOD));
@@ -342,7 +342,7 @@ public class ModBlocks
 
         DEAD_SAPLING = register(func, "dead_sapling", p -> new SaplingBlockBOP(BOPTreeGrowers.DEAD, p), BlockBehaviour.Properties.of().mapColor(MapColor.WOOD).pushReaction(PushReaction.DESTROY).noCollission().randomTicks().instabreak().sound(SoundType.GRASS));
         DEAD_BRANCH = register(func, "dead_branch", DeadBranchBlock::new, BlockBehaviour.Properties.of().pushReaction(PushReaction.DESTROY).mapColor(MapColor.COLOR_GRAY).ignitedByLava().noCollission().instabreak().sound(SoundType.WOOD));
-        DEAD_LEAVES = register(func, "dead_leaves", LeavesBlock::new, BlockBehaviour.Properties.of().pushReaction(PushReaction.DESTROY).mapColor(MapColor.WOOD).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
+        DEAD_LEAVES = register(func, "dead_leaves", LeavesBlockBOP::new, BlockBehaviour.Properties.of().pushReaction(PushReaction.DESTROY).mapColor(MapColor.WOOD).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
         DEAD_LOG = register(func, "dead_log", RotatedPillarBlock::new, logProperties(MapColor.STONE, MapColor.COLOR_GRAY, SoundType.WOOD));
         DEAD_WOOD = register(func, "dead_wood", RotatedPillarBlock::new, BlockBehaviour.Properties.of().instrument(NoteBlockInstrument.BASS).ignitedByLava().mapColor(MapColor.COLOR_GRAY).strength(2.0F).sound(SoundType.WOOD));
         STRIPPED_DEAD_LOG = register(func, "stripped_dead_log", RotatedPillarBlock::new, logProperties(MapColor.STONE, MapColor.STONE, SoundType.WOOD));
@@ -382,7 +382,7 @@ public class ModBlocks
         MAGIC_WALL_HANGING_SIGN = register(func, "magic_wall_hanging_sign", p -> new WallHangingSignBlockBOP(BOPWoodTypes.MAGIC, p), wallVariant(MAGIC_HANGING_SIGN, true).mapColor(MAGIC_PLANKS.defaultMapColor()).instrument(NoteBlockInstrument.BASS).ignitedByLava().forceSolidOn().noCollission().strength(1.0F));
 
         UMBRAN_SAPLING = register(func, "umbran_sapling", p -> new SaplingBlockBOP(BOPTreeGrowers.UMBRAN, p), BlockBehaviour.Properties.of().mapColor(MapColor.TERRACOTTA_BLUE).pushReaction(PushReaction.DESTROY).noCollission().randomTicks().instabreak().sound(SoundType.GRASS));
-        UMBRAN_LEAVES = register(func, "umbran_leaves", LeavesBlock::new, BlockBehaviour.Properties.of().pushReaction(PushReaction.DESTROY).mapColor(MapColor.TERRACOTTA_BLUE).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
+        UMBRAN_LEAVES = register(func, "umbran_leaves", LeavesBlockBOP::new, BlockBehaviour.Properties.of().pushReaction(PushReaction.DESTROY).mapColor(MapColor.TERRACOTTA_BLUE).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
         UMBRAN_LOG = register(func, "umbran_log", RotatedPillarBlock::new, logProperties(MapColor.TERRACOTTA_BLUE, MapColor.TERRACOTTA_BLUE, SoundType.NETHER_WOOD));
         UMBRAN_WOOD = register(func, "umbran_wood", RotatedPillarBlock::new, BlockBehaviour.Properties.of().instrument(NoteBlockInstrument.BASS).ignitedByLava().mapColor(MapColor.TERRACOTTA_BLUE).strength(2.0F).sound(SoundType.NETHER_WOOD));
         STRIPPED_UMBRAN_LOG = register(func, "stripped_umbran_log", RotatedPillarBlock::new, logProperties(MapColor.TERRACOTTA_BLUE, MapColor.TERRACOTTA_BLUE, SoundType.NETHER_WOOD));
@@ -402,7 +402,7 @@ public class ModBlocks
         UMBRAN_WALL_HANGING_SIGN = register(func, "umbran_wall_hanging_sign", p -> new WallHangingSignBlockBOP(BOPWoodTypes.UMBRAN, p), wallVariant(UMBRAN_HANGING_SIGN, true).mapColor(UMBRAN_PLANKS.defaultMapColor()).instrument(NoteBlockInstrument.BASS).ignitedByLava().forceSolidOn().noCollission().strength(1.0F));
 
         HELLBARK_SAPLING = register(func, "hellbark_sapling", p -> new SaplingBlockBOP(BOPTreeGrowers.HELLBARK, p), BlockBehaviour.Properties.of().mapColor(MapColor.TERRACOTTA_PURPLE).pushReaction(PushReaction.DESTROY).noCollission().randomTicks().instabreak().sound(SoundType.GRASS));
-        HELLBARK_LEAVES = register(func, "hellbark_leaves", LeavesBlock::new, BlockBehaviour.Properties.of().pushReaction(PushReaction.DESTROY).mapColor(MapColor.TERRACOTTA_PURPLE).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).isRedstoneConductor(ModBlocks::never));
+        HELLBARK_LEAVES = register(func, "hellbark_leaves", LeavesBlockBOP::new, BlockBehaviour.Properties.of().pushReaction(PushReaction.DESTROY).mapColor(MapColor.TERRACOTTA_PURPLE).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).isRedstoneConductor(ModBlocks::never));
         HELLBARK_LOG = register(func, "hellbark_log", RotatedPillarBlock::new, logNonIgnitingProperties(MapColor.TERRACOTTA_GRAY, MapColor.COLOR_LIGHT_GRAY, SoundType.NETHER_WOOD));
         HELLBARK_WOOD = register(func, "hellbark_wood", RotatedPillarBlock::new, BlockBehaviour.Properties.of().instrument(NoteBlockInstrument.BASS).mapColor(MapColor.COLOR_LIGHT_GRAY).strength(2.0F).sound(SoundType.NETHER_WOOD));
         STRIPPED_HELLBARK_LOG = register(func, "stripped_hellbark_log", RotatedPillarBlock::new, logNonIgnitingProperties(MapColor.TERRACOTTA_GRAY, MapColor.TERRACOTTA_GRAY, SoundType.NETHER_WOOD));
@@ -422,7 +422,7 @@ public class ModBlocks
         HELLBARK_WALL_HANGING_SIGN = register(func, "hellbark_wall_hanging_sign", p -> new WallHangingSignBlockBOP(BOPWoodTypes.HELLBARK, p), wallVariant(HELLBARK_HANGING_SIGN, true).mapColor(HELLBARK_PLANKS.defaultMapColor()).instrument(NoteBlockInstrument.BASS).forceSolidOn().noCollission().strength(1.0F));
 
         EMPYREAL_SAPLING = register(func, "empyreal_sapling", p -> new SaplingBlockBOP(BOPTreeGrowers.EMPYREAL, p), BlockBehaviour.Properties.of().mapColor(MapColor.SAND).pushReaction(PushReaction.DESTROY).noCollission().randomTicks().instabreak().sound(SoundType.GRASS));
-        EMPYREAL_LEAVES = register(func, "empyreal_leaves", LeavesBlock::new, BlockBehaviour.Properties.of().mapColor(MapColor.SAND).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
+        EMPYREAL_LEAVES = register(func, "empyreal_leaves", LeavesBlockBOP::new, BlockBehaviour.Properties.of().mapColor(MapColor.SAND).pushReaction(PushReaction.DESTROY).strength(0.2F).randomTicks().sound(SoundType.GRASS).noOcclusion().isValidSpawn(ModBlocks::ocelotOrParrot).isSuffocating(ModBlocks::never).isViewBlocking(ModBlocks::never).ignitedByLava().isRedstoneConductor(ModBlocks::never));
         EMPYREAL_LOG = register(func, "empyreal_log", RotatedPillarBlock::new, logProperties(MapColor.COLOR_PURPLE, MapColor.QUARTZ, SoundType.NETHER_WOOD));
         EMPYREAL_WOOD = register(func, "empyreal_wood", RotatedPillarBlock::new, BlockBehaviour.Properties.of().instrument(NoteBlockInstrument.BASS).ignitedByLava().mapColor(MapColor.QUARTZ).strength(2.0F).sound(SoundType.NETHER_WOOD));
         STRIPPED_EMPYREAL_LOG = register(func, "stripped_empyreal_log", RotatedPillarBlock::new, logProperties(MapColor.COLOR_PURPLE, MapColor.COLOR_PURPLE, SoundType.NETHER_WOOD));
@@ -10,11 +10,17 @@ import biomesoplenty.api.block.BOPFluids;
 import biomesoplenty.api.block.BOPWoodTypes;
 import biomesoplenty.api.entity.BOPEntities;
 import biomesoplenty.block.HangingSignBlockEntityBOP;
+import biomesoplenty.block.LeavesBlockBOP;
+import biomesoplenty.block.VentParticles;
 import biomesoplenty.block.entity.AnomalyBlockEntity;
 import biomesoplenty.block.entity.SignBlockEntityBOP;
+import biomesoplenty.client.fog.FluidFogProfiles;
+import biomesoplenty.client.particle.VentEmitters;
 import biomesoplenty.client.renderer.AnomalyRenderer;
+import biomesoplenty.config.ClientConfig;
 import biomesoplenty.core.BiomesOPlenty;
 import biomesoplenty.particle.*;
+import biomesoplenty.util.benchmark.StartupProfiler;
 import glitchcore.event.EventManager;
 import glitchcore.event.client.RegisterColorsEvent;
 import glitchcore.event.client.RegisterParticleSpritesEvent;
@@ -31,6 +37,7 @@ import net.minecraft.client.renderer.blockentity.HangingSignRenderer;
 import net.minecraft.client.renderer.blockentity.SignRenderer;
 import net.minecraft.client.renderer.entity.BoatRenderer;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.util.Mth;
@@ -50,11 +57,16 @@ import static biomesoplenty.api.block.BOPBlocks.*;
 
 public class ModClient
 {
+    // Only created on the client, so dedicated servers never write a client.toml
+    private static ClientConfig config;
+
     public static void setup()
     {
-        setupRenderTypes();
-        registerRenderers();
-        registerWoodTypes();
+        config = new ClientConfig();
+        StartupProfiler.time("client/render_types", ModClient::setupRenderTypes);
+        StartupProfiler.time("client/renderers", ModClient::registerRenderers);
+        StartupProfiler.time("client/wood_types", ModClient::registerWoodTypes);
+        StartupProfiler.time("client/fluid_fog", FluidFogProfiles::setup);
     }
 
     public static void addClientHandlers()
@@ -69,6 +81,9 @@ public class ModClient
 
     public static void setupRenderTypes()
     {
+        LeavesBlockBOP.fastLeaves = () -> config.cullFastLeaves && !Minecraft.useFancyGraphics();
+        VentParticles.check = VentEmitters::tryEmit;
+
         RenderType transparentRenderType = RenderType.cutoutMipped();
         RenderType cutoutRenderType = RenderType.cutout();
         RenderType translucentRenderType = RenderType.translucent();
@@ -431,12 +446,13 @@ public class ModClient
 
     public static int getRainbowBirchColor(BlockAndTintGetter world, BlockPos pos)
     {
+        BlockPos.MutableBlockPos abovePos = pos.mutable().move(Direction.UP);
         float saturation;
-        if (world.getBlockState(pos.above()).is(BlockTags.SNOW))
+        if (world.getBlockState(abovePos).is(BlockTags.SNOW))
         {
             saturation = 0.3F;
         }
-        else if (world.getBlockState(pos.above(2)).is(BlockTags.SNOW))
+        else if (world.getBlockState(abovePos.move(Direction.UP)).is(BlockTags.SNOW))
         {
             saturation = 0.45F;
         }
@@ -445,8 +461,8 @@ public class ModClient
             saturation = 0.6F;
         }
 
-        Color foliage = Color.getHSBColor(((float)pos.getX() + (float)pos.getY() + (float)pos.getZ() + (Mth.sin(((float)pos.getX() + (float)pos.getY() + (float)pos.getZ()) / 16) * 16) % 100) / 100, saturation, 1.0F);
-
-        return foliage.getRGB();
+        // Convert directly to packed RGB rather than allocating a Color for every leaf block during chunk rebuilds
+        float position = (float)pos.getX() + (float)pos.getY() + (float)pos.getZ();
+        return Color.HSBtoRGB((position + (Mth.sin(position / 16) * 16) % 100) / 100, saturation, 1.0F);
     }
 }
@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.init;
+
+import biomesoplenty.core.BiomesOPlenty;
+import biomesoplenty.util.biome.BiomeMapExporter;
+import biomesoplenty.util.worldgen.DecorationBudget;
+import biomesoplenty.util.worldgen.VolumeProbe;
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import glitchcore.event.RegisterCommandsEvent;
+import net.minecraft.Util;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.storage.LevelResource;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ModCommands
+{
+    private static final int MAX_BIOME_MAP_RADIUS = 4096;
+    private static final AtomicBoolean EXPORTING_BIOME_MAP = new AtomicBoolean();
+
+    public static void registerCommands(RegisterCommandsEvent event)
+    {
+        CommandDispatcher<CommandSourceStack> dispatcher = event.getDispatcher();
+
+        dispatcher.register(Commands.literal("bop")
+            .requires(source -> source.hasPermission(2))
+            .then(Commands.literal("biomemap")
+                .then(Commands.argument("radius", IntegerArgumentType.integer(16, MAX_BIOME_MAP_RADIUS))
+                    .executes(context -> exportBiomeMap(context, BlockPos.containing(context.getSource().getPosition()).getY()))
+                    .then(Commands.argument("y", IntegerArgumentType.integer())
+                        .executes(context -> exportBiomeMap(context, IntegerArgumentType.getInteger(context, "y"))))))
+            .then(Commands.literal("decorationbudget")
+                .executes(ModCommands::showDecorationBudget))
+            .then(Commands.literal("volumeprobe")
+                .executes(ModCommands::showVolumeProbes)));
+    }
+
+    private static int exportBiomeMap(CommandContext<CommandSourceStack> context, int y)
+    {
+        CommandSourceStack source = context.getSource();
+
+        // Only one export may run at a time, so repeated commands can't pile up sampling work
+        if (!EXPORTING_BIOME_MAP.compareAndSet(false, true))
+        {
+            source.sendFailure(Component.translatable("commands.biomesoplenty.biomemap.running"));
+            return 0;
+        }
+
+        ServerLevel level = source.getLevel();
+        BlockPos center = BlockPos.containing(source.getPosition());
+        int radius = IntegerArgumentType.getInteger(context, "radius");
+        String name = level.dimension().location().getPath() + "_" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss"));
+        Path outputDir = source.getServer().getWorldPath(LevelResource.ROOT).resolve("biomemaps").resolve(name).normalize();
+
+        source.sendSuccess(() -> Component.translatable("commands.biomesoplenty.biomemap.started", radius, center.getX(), center.getZ()), true);
+
+        // Sampling doesn't touch chunks, so it can run off the server thread without holding up ticking
+        Util.ioPool().execute(() ->
+        {
+            try
+            {
+                BiomeMapExporter.Result result = new BiomeMapExporter(level, outputDir).export(center.getX(), center.getZ(), radius, y);
+                source.getServer().execute(() -> source.sendSuccess(() -> Component.translatable("commands.biomesoplenty.biomemap.success", result.samples(), result.tiles(), String.format("%.0f", result.samplesPerSecond()), outputDir.toString()), true));
+            }
+            catch (Exception e)
+            {
+                BiomesOPlenty.LOGGER.error("Failed to export biome map", e);
+                source.getServer().execute(() -> source.sendFailure(Component.translatable("commands.biomesoplenty.biomemap.failed", e.getMessage())));
+            }
+            finally
+            {
+                EXPORTING_BIOME_MAP.set(false);
+            }
+        });
+
+        return 1;
+    }
+
+    private static int showDecorationBudget(CommandContext<CommandSourceStack> context)
+    {
+        CommandSourceStack source = context.getSource();
+
+        if (!ModConfig.generation.decorationBudgetEnabled)
+        {
+            source.sendFailure(Component.translatable("commands.biomesoplenty.decorationbudget.disabled"));
+            return 0;
+        }
+
+        Map<ResourceLocation, Long> thinnedCounts = DecorationBudget.getThinnedCounts();
+        source.sendSuccess(() -> Component.translatable("commands.biomesoplenty.decorationbudget.summary", DecorationBudget.getChunksOverBudget()), false);
+        thinnedCounts.forEach((feature, count) -> source.sendSuccess(() -> Component.translatable("commands.biomesoplenty.decorationbudget.entry", feature.toString(), count), false));
+        return thinnedCounts.size();
+    }
+
+    private static int showVolumeProbes(CommandContext<CommandSourceStack> context)
+    {
+        CommandSourceStack source = context.getSource();
+        Map<String, long[]> failureCounts = VolumeProbe.getFailureCounts();
+
+        if (failureCounts.isEmpty())
+        {
+            source.sendFailure(Component.translatable("commands.biomesoplenty.volumeprobe.none"));
+            return 0;
+        }
+
+        failureCounts.forEach((name, counts) -> source.sendSuccess(() -> Component.translatable("commands.biomesoplenty.volumeprobe.entry", name, counts[0], counts[1]), false));
+        return failureCounts.size();
+    }
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.mixin;
+
+import biomesoplenty.init.ModConfig;
+import biomesoplenty.util.worldgen.DecorationBudget;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.StructureManager;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.levelgen.placement.PlacedFeature;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ChunkGenerator.class)
+public abstract class MixinChunkGenerator
+{
+    @Inject(method = "applyBiomeDecoration", at = @At("HEAD"))
+    private void onBeginDecoration(WorldGenLevel level, ChunkAccess chunk, StructureManager structureManager, CallbackInfo ci)
+    {
+        DecorationBudget.beginChunk();
+    }
+
+    @Inject(method = "applyBiomeDecoration", at = @At("RETURN"))
+    private void onEndDecoration(WorldGenLevel level, ChunkAccess chunk, StructureManager structureManager, CallbackInfo ci)
+    {
+        DecorationBudget.endChunk();
+    }
+
+    // Wrapped rather than redirected so other mods can hook the same call
+    @WrapOperation(method = "applyBiomeDecoration", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/levelgen/placement/PlacedFeature;placeWithBiomeCheck(Lnet/minecraft/world/level/WorldGenLevel;Lnet/minecraft/world/level/chunk/ChunkGenerator;Lnet/minecraft/util/RandomSource;Lnet/minecraft/core/BlockPos;)Z"))
+    private boolean placeFeature(PlacedFeature feature, WorldGenLevel level, ChunkGenerator generator, RandomSource random, BlockPos origin, Operation<Boolean> original)
+    {
+        if (ModConfig.generation.decorationBudgetEnabled && DecorationBudget.shouldThin(level, feature, origin))
+            return false;
+
+        return original.call(feature, level, generator, random, origin);
+    }
+}
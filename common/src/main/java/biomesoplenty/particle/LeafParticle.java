@@ -11,22 +11,43 @@ public class LeafParticle extends TextureSheetParticle {
     private static final int CURVE_ENDPOINT_TIME = 300;
     private static final float FALL_ACC = 0.25F;
     private static final float WIND_BIG = 2.0F;
+
+    // The wind curve only depends on the particle's age, so it is shared between all leaves
+    private static final double[] WIND_CURVE = new double[CURVE_ENDPOINT_TIME + 1];
+
+    static {
+        for (int i = 0; i <= CURVE_ENDPOINT_TIME; i++) {
+            WIND_CURVE[i] = Math.pow((double)((float)i / (float)CURVE_ENDPOINT_TIME), 1.25D);
+        }
+    }
+
     private float rotSpeed;
     private final float particleRandom;
     private final float spinAcceleration;
+    private final double windX;
+    private final double windZ;
 
     public LeafParticle(ClientLevel p_277612_, double p_278010_, double p_277614_, double p_277673_, SpriteSet p_277465_) {
-        super(p_277612_, p_278010_, p_277614_, p_277673_);
-        this.setSprite(p_277465_.get(this.random.nextInt(12), 12));
+        this(p_277612_, p_278010_, p_277614_, p_277673_, p_277465_, 12, 0.05F, 0.075F);
+    }
+
+    protected LeafParticle(ClientLevel level, double x, double y, double z, SpriteSet sprites, int spriteCount, float smallSize, float largeSize) {
+        super(level, x, y, z);
+        this.setSprite(sprites.get(this.random.nextInt(spriteCount), spriteCount));
         this.rotSpeed = (float)Math.toRadians(this.random.nextBoolean() ? -30.0D : 30.0D);
         this.particleRandom = this.random.nextFloat();
         this.spinAcceleration = (float)Math.toRadians(this.random.nextBoolean() ? -5.0D : 5.0D);
-        this.lifetime = 300;
+        this.lifetime = INITIAL_LIFETIME;
         this.gravity = 7.5E-4F;
-        float f = this.random.nextBoolean() ? 0.05F : 0.075F;
+        float f = this.random.nextBoolean() ? smallSize : largeSize;
         this.quadSize = f;
         this.setSize(f, f);
         this.friction = 1.0F;
+
+        // The wind direction never changes over the particle's lifetime, so compute it once
+        double angle = Math.toRadians((double)(this.particleRandom * 60.0F));
+        this.windX = Math.cos(angle) * (double)WIND_BIG * (double)ACCELERATION_SCALE;
+        this.windZ = Math.sin(angle) * (double)WIND_BIG * (double)ACCELERATION_SCALE;
     }
 
     public ParticleRenderType getRenderType() {
@@ -42,12 +63,10 @@ public class LeafParticle extends TextureSheetParticle {
         }
 
         if (!this.removed) {
-            float f = (float)(300 - this.lifetime);
-            float f1 = Math.min(f / 300.0F, 1.0F);
-            double d0 = Math.cos(Math.toRadians((double)(this.particleRandom * 60.0F))) * 2.0D * Math.pow((double)f1, 1.25D);
-            double d1 = Math.sin(Math.toRadians((double)(this.particleRandom * 60.0F))) * 2.0D * Math.pow((double)f1, 1.25D);
-            this.xd += d0 * (double)0.0025F;
-            this.zd += d1 * (double)0.0025F;
+            int age = Math.min(INITIAL_LIFETIME - this.lifetime, CURVE_ENDPOINT_TIME);
+            double curve = WIND_CURVE[age];
+            this.xd += this.windX * curve;
+            this.zd += this.windZ * curve;
             this.yd -= (double)this.gravity;
             this.rotSpeed += this.spinAcceleration / 20.0F;
             this.oRoll = this.roll;
@@ -64,4 +83,4 @@ public class LeafParticle extends TextureSheetParticle {
             }
         }
     }
-}
\ No newline at end of file
+}
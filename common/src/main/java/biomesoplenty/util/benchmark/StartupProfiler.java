@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.util.benchmark;
+
+import biomesoplenty.core.BiomesOPlenty;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import glitchcore.util.Environment;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.resources.ResourceLocation;
+
+import javax.annotation.Nullable;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Times each phase of our startup along with the registrars run by the registry helper. Enabled by launching with
+ * -Dbiomesoplenty.profileStartup=true, in which case a report is written to logs/bop-startup.json once the loader
+ * reports that loading has finished. Writing it only then keeps the class listing out of the phases being measured.
+ *
+ * Each phase records its wall time, the bytes allocated by the thread running it and how many classes were loaded
+ * while it ran. Phases can run on different threads depending on the loader, so class counts may include classes
+ * loaded elsewhere at the same time. The report also breaks down every loaded class (excluding interfaces) by package.
+ */
+public class StartupProfiler
+{
+    private static final boolean ENABLED = Boolean.getBoolean("biomesoplenty.profileStartup");
+    private static final int PACKAGE_DEPTH = 3;
+    private static final List<Phase> PHASES = new ArrayList<>();
+    private static final AtomicBoolean FINISHED = new AtomicBoolean();
+
+    public static void time(String name, Runnable phase)
+    {
+        if (!ENABLED)
+        {
+            phase.run();
+            return;
+        }
+
+        measure(name, phase, null);
+    }
+
+    /**
+     * Wraps a registrar so that it is timed when the registry helper runs it, along with the number of entries it registers.
+     */
+    public static <T> Consumer<BiConsumer<ResourceLocation, T>> registrar(String name, Consumer<BiConsumer<ResourceLocation, T>> registrar)
+    {
+        if (!ENABLED)
+            return registrar;
+
+        return func ->
+        {
+            AtomicInteger entries = new AtomicInteger();
+            measure("registrar/" + name, () -> registrar.accept((location, value) ->
+            {
+                entries.incrementAndGet();
+                func.accept(location, value);
+            }), entries);
+        };
+    }
+
+    private static void measure(String name, Runnable phase, @Nullable AtomicInteger entries)
+    {
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        long startClasses = classLoading.getTotalLoadedClassCount();
+        long startAllocated = getAllocatedBytes();
+        long startTime = System.nanoTime();
+
+        phase.run();
+
+        long elapsed = System.nanoTime() - startTime;
+        long allocated = getAllocatedBytes() - startAllocated;
+        long classes = classLoading.getTotalLoadedClassCount() - startClasses;
+
+        synchronized (PHASES)
+        {
+            PHASES.add(new Phase(name, Thread.currentThread().getName(), elapsed, allocated, classes, entries == null ? -1 : entries.get()));
+        }
+    }
+
+    /**
+     * Writes the report after the final phase. Loaders call this when loading completes, and only the first call counts.
+     */
+    public static void finish()
+    {
+        if (!ENABLED || !FINISHED.compareAndSet(false, true))
+            return;
+
+        writeReport();
+    }
+
+    private static long getAllocatedBytes()
+    {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean && threadBean.isThreadAllocatedMemoryEnabled())
+            return threadBean.getCurrentThreadAllocatedBytes();
+
+        return 0L;
+    }
+
+    private static void writeReport()
+    {
+        JsonArray phases = new JsonArray();
+        long totalNanos = 0L;
+
+        synchronized (PHASES)
+        {
+            for (Phase phase : PHASES)
+            {
+                JsonObject json = new JsonObject();
+                json.addProperty("name", phase.name());
+                json.addProperty("thread", phase.thread());
+                json.addProperty("millis", phase.elapsedNanos() / 1.0E6D);
+                json.addProperty("allocatedBytes", phase.allocatedBytes());
+                json.addProperty("loadedClasses", phase.loadedClasses());
+                if (phase.entries() >= 0) json.addProperty("entries", phase.entries());
+                phases.add(json);
+
+                // Registrars run inside the registry events rather than our own phases, so nothing is counted twice
+                totalNanos += phase.elapsedNanos();
+            }
+        }
+
+        JsonObject report = new JsonObject();
+        report.addProperty("totalMillis", totalNanos / 1.0E6D);
+        report.addProperty("totalLoadedClasses", ManagementFactory.getClassLoadingMXBean().getLoadedClassCount());
+        report.add("phases", phases);
+        report.add("loadedClassesByPackage", getLoadedClassesByPackage());
+
+        Path output = Environment.getConfigPath().resolveSibling("logs").resolve("bop-startup.json");
+
+        try
+        {
+            Files.createDirectories(output.getParent());
+
+            try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8))
+            {
+                new GsonBuilder().setPrettyPrinting().create().toJson(report, writer);
+            }
+        }
+        catch (IOException e)
+        {
+            BiomesOPlenty.LOGGER.error("Failed to write startup report", e);
+        }
+    }
+
+    private static JsonObject getLoadedClassesByPackage()
+    {
+        JsonObject packages = new JsonObject();
+        String hierarchy;
+
+        // The JVM doesn't expose a list of loaded classes, but the class hierarchy diagnostic command prints every one
+        try
+        {
+            hierarchy = (String)ManagementFactory.getPlatformMBeanServer().invoke(new ObjectName("com.sun.management:type=DiagnosticCommand"), "vmClassHierarchy", new Object[]{ null }, new String[]{ String[].class.getName() });
+        }
+        catch (Exception e)
+        {
+            BiomesOPlenty.LOGGER.warn("Unable to list loaded classes for the startup report: {}", e.getMessage());
+            return packages;
+        }
+
+        Object2IntMap<String> counts = new Object2IntOpenHashMap<>();
+
+        for (String line : hierarchy.split("\n"))
+        {
+            // Lines are of the form "|  |--java.util.AbstractList/null", indented by the depth in the hierarchy
+            int start = 0;
+            while (start < line.length() && (line.charAt(start) == '|' || line.charAt(start) == '-' || line.charAt(start) == ' ')) start++;
+            int end = line.indexOf('/', start);
+            if (end < 0) end = line.indexOf(' ', start);
+            if (end < 0) end = line.length();
+
+            String className = line.substring(start, end);
+            if (className.isEmpty()) continue;
+            counts.mergeInt(getPackageGroup(className), 1, Integer::sum);
+        }
+
+        counts.object2IntEntrySet().stream()
+            .sorted(Comparator.comparingInt(Object2IntMap.Entry<String>::getIntValue).reversed())
+            .forEach(entry -> packages.addProperty(entry.getKey(), entry.getIntValue()));
+        return packages;
+    }
+
+    private static String getPackageGroup(String className)
+    {
+        int end = className.lastIndexOf('.');
+        if (end < 0) return "<default>";
+
+        // Group by the first few package segments, so that e.g. net.minecraft.world.level.block counts as net.minecraft.world
+        int segmentEnd = -1;
+        for (int i = 0; i < PACKAGE_DEPTH; i++)
+        {
+            int next = className.indexOf('.', segmentEnd + 1);
+            if (next < 0 || next > end) return className.substring(0, end);
+            segmentEnd = next;
+        }
+        return className.substring(0, segmentEnd);
+    }
+
+    private record Phase(String name, String thread, long elapsedNanos, long allocatedBytes, long loadedClasses, int entries) {}
+}
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.util.benchmark;
+
+import biomesoplenty.core.BiomesOPlenty;
+import biomesoplenty.util.biome.BiomeMapExporter;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.TicketType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Headless worldgen benchmarks, started by the benchWorldgen and checkWorldgen Gradle tasks. These write a settings
+ * file into the server's working directory and launch the server with -Dbiomesoplenty.benchmark=true. The benchmark
+ * only runs when both are present, so a stray settings file can't take over a normal server.
+ *
+ * The throughput benchmark generates every chunk in a square around the configured centre to full status at once, so
+ * all worldgen worker threads are kept busy. Latency is measured from when a chunk is requested to when it completes,
+ * so it includes time spent queued behind other chunks in the area. In both modes the results are written as JSON and
+ * the server is then stopped. The exportBiomeMap task reuses the same harness to run the {@link BiomeMapExporter}
+ * against a fresh world, without generating any chunks beyond spawn.
+ */
+public class WorldgenBenchmark
+{
+    public static final String SETTINGS_FILE_NAME = "biomesoplenty-benchmark.properties";
+    public static final String SYSTEM_PROPERTY = "biomesoplenty.benchmark";
+    private static final TicketType<ChunkPos> TICKET = TicketType.create(BiomesOPlenty.MOD_ID + ":benchmark", Comparator.comparingLong(ChunkPos::toLong));
+
+    public static boolean isEnabled()
+    {
+        return Boolean.getBoolean(SYSTEM_PROPERTY) && Files.isRegularFile(Paths.get(SETTINGS_FILE_NAME));
+    }
+
+    public static void start(MinecraftServer server, String loader)
+    {
+        if (!isEnabled())
+            return;
+
+        Properties settings = new Properties();
+
+        try (Reader reader = Files.newBufferedReader(Paths.get(SETTINGS_FILE_NAME), StandardCharsets.UTF_8))
+        {
+            settings.load(reader);
+        }
+        catch (IOException e)
+        {
+            BiomesOPlenty.LOGGER.error("Failed to read worldgen benchmark settings", e);
+            server.halt(false);
+            return;
+        }
+
+        Path output = Paths.get(settings.getProperty("output", "worldgen-benchmark.json"));
+
+        if ("hashcheck".equals(settings.getProperty("mode")))
+        {
+            WorldgenHashCheck.start(server, loader, settings, output);
+        }
+        else if ("biomemap".equals(settings.getProperty("mode")))
+        {
+            exportBiomeMap(server, settings);
+        }
+        else
+        {
+            measureThroughput(server, loader, settings, output);
+        }
+    }
+
+    private static void measureThroughput(MinecraftServer server, String loader, Properties settings, Path output)
+    {
+        int radius = Integer.parseInt(settings.getProperty("radius", "12"));
+        int centerX = Integer.parseInt(settings.getProperty("centerX", "0"));
+        int centerZ = Integer.parseInt(settings.getProperty("centerZ", "0"));
+
+        ServerLevel level = server.overworld();
+        ChunkPos center = new ChunkPos(centerX >> 4, centerZ >> 4);
+        List<ChunkPos> positions = new ArrayList<>();
+
+        for (int x = -radius; x <= radius; x++)
+        {
+            for (int z = -radius; z <= radius; z++)
+            {
+                positions.add(new ChunkPos(center.x + x, center.z + z));
+            }
+        }
+
+        BiomesOPlenty.LOGGER.info("Benchmarking generation of {} chunks around {} on {}", positions.size(), center, loader);
+        ManagementFactory.getMemoryPoolMXBeans().stream().filter(pool -> pool.getType() == MemoryType.HEAP).forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        long[] latencies = new long[positions.size()];
+        AtomicInteger failures = new AtomicInteger();
+        long startTime = System.nanoTime();
+
+        generateChunks(level, positions, latencies, failures).whenCompleteAsync((result, throwable) ->
+        {
+            long elapsed = System.nanoTime() - startTime;
+            releaseChunks(level, positions);
+            writeJson(createReport(loader, level.getSeed(), center, radius, positions.size(), failures.get(), elapsed, latencies), output);
+            server.halt(false);
+        }, server);
+    }
+
+    private static void exportBiomeMap(MinecraftServer server, Properties settings)
+    {
+        int radius = Integer.parseInt(settings.getProperty("radius", "4096"));
+        int centerX = Integer.parseInt(settings.getProperty("centerX", "0"));
+        int centerZ = Integer.parseInt(settings.getProperty("centerZ", "0"));
+        int y = Integer.parseInt(settings.getProperty("y", "64"));
+        Path outputDir = Paths.get(settings.getProperty("outputDir", "biomemap"));
+
+        try
+        {
+            BiomeMapExporter.Result result = new BiomeMapExporter(server.overworld(), outputDir).export(centerX, centerZ, radius, y);
+            BiomesOPlenty.LOGGER.info("Sampled {} biomes in {} tiles ({} per second), saved to {}", result.samples(), result.tiles(), String.format("%.0f", result.samplesPerSecond()), outputDir.toAbsolutePath());
+        }
+        catch (IOException e)
+        {
+            BiomesOPlenty.LOGGER.error("Failed to export biome map", e);
+        }
+
+        server.halt(false);
+    }
+
+    /**
+     * Generates the given chunks to full status in parallel. The chunks are kept loaded until they are released.
+     * Must be called on the server thread.
+     */
+    static CompletableFuture<Void> generateChunks(ServerLevel level, List<ChunkPos> positions, long[] latencies, AtomicInteger failures)
+    {
+        ServerChunkCache chunkSource = level.getChunkSource();
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[positions.size()];
+
+        for (int i = 0; i < positions.size(); i++)
+        {
+            // Without a ticket a chunk may be unloaded again before reaching full status
+            ChunkPos pos = positions.get(i);
+            chunkSource.addRegionTicket(TICKET, pos, 0, pos);
+
+            int index = i;
+            long requestTime = System.nanoTime();
+            futures[i] = chunkSource.getChunkFuture(pos.x, pos.z, ChunkStatus.FULL, true).whenComplete((result, throwable) ->
+            {
+                latencies[index] = System.nanoTime() - requestTime;
+
+                if (throwable != null || !result.isSuccess())
+                    failures.incrementAndGet();
+            });
+        }
+
+        return CompletableFuture.allOf(futures);
+    }
+
+    static void releaseChunks(ServerLevel level, List<ChunkPos> positions)
+    {
+        for (ChunkPos pos : positions)
+        {
+            level.getChunkSource().removeRegionTicket(TICKET, pos, 0, pos);
+        }
+    }
+
+    static void writeJson(JsonObject json, Path output)
+    {
+        try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8))
+        {
+            new GsonBuilder().setPrettyPrinting().create().toJson(json, writer);
+            BiomesOPlenty.LOGGER.info("Wrote worldgen benchmark results to {}", output.toAbsolutePath());
+        }
+        catch (IOException e)
+        {
+            BiomesOPlenty.LOGGER.error("Failed to write worldgen benchmark results", e);
+        }
+    }
+
+    private static JsonObject createReport(String loader, long seed, ChunkPos center, int radius, int chunkCount, int failures, long elapsedNanos, long[] latencies)
+    {
+        Arrays.sort(latencies);
+        double seconds = elapsedNanos / 1.0E9D;
+        long peakHeap = ManagementFactory.getMemoryPoolMXBeans().stream().filter(pool -> pool.getType() == MemoryType.HEAP).mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+        JsonObject report = new JsonObject();
+        report.addProperty("loader", loader);
+        report.addProperty("minecraftVersion", SharedConstants.getCurrentVersion().getName());
+        report.addProperty("seed", seed);
+        report.addProperty("centerChunkX", center.x);
+        report.addProperty("centerChunkZ", center.z);
+        report.addProperty("radius", radius);
+        report.addProperty("chunks", chunkCount);
+        report.addProperty("failedChunks", failures);
+        report.addProperty("processors", Runtime.getRuntime().availableProcessors());
+        report.addProperty("elapsedSeconds", seconds);
+        report.addProperty("chunksPerSecond", chunkCount / seconds);
+        report.addProperty("p50LatencyMillis", percentile(latencies, 0.5D) / 1.0E6D);
+        report.addProperty("p99LatencyMillis", percentile(latencies, 0.99D) / 1.0E6D);
+        report.addProperty("maxLatencyMillis", latencies[latencies.length - 1] / 1.0E6D);
+        // Sum of the peak of each heap pool, which may slightly overstate the true peak
+        report.addProperty("peakHeapBytes", peakHeap);
+        return report;
+    }
+
+    private static long percentile(long[] sorted, double fraction)
+    {
+        return sorted[(int)Math.round((sorted.length - 1) * fraction)];
+    }
+}
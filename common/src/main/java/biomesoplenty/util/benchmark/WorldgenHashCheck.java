@@ -0,0 +1,346 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.util.benchmark;
+
+import biomesoplenty.api.biome.BOPBiomes;
+import biomesoplenty.core.BiomesOPlenty;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mojang.datafixers.util.Pair;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Checks that worldgen output is unchanged by hashing one chunk per BOP biome against a committed golden file.
+ * Run with a fixed seed on a fresh world; the nearest chunk containing each biome is located from the world origin.
+ *
+ * The chunks surrounding each sampled chunk are generated as well, so every feature which can reach into it has been
+ * placed before it is hashed. Each section's block states, the chunk's biomes and its heightmaps are hashed separately
+ * so a mismatch can be narrowed down to a section.
+ */
+public class WorldgenHashCheck
+{
+    private static final int SEARCH_RADIUS = 6400;
+    private static final int SEARCH_STEP = 32;
+    private static final int VERTICAL_SEARCH_STEP = 64;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    static void start(MinecraftServer server, String loader, Properties settings, Path output)
+    {
+        Path goldenFile = Paths.get(settings.getProperty("golden"));
+        boolean update = Boolean.parseBoolean(settings.getProperty("update", "false"));
+        List<Sample> samples = findSamples(server);
+
+        // Generate all levels at once, padding each sample so that neighbouring features have been placed
+        Map<ServerLevel, List<ChunkPos>> toGenerate = new LinkedHashMap<>();
+        for (Sample sample : samples)
+        {
+            List<ChunkPos> positions = toGenerate.computeIfAbsent(sample.level(), level -> new ArrayList<>());
+
+            for (int x = -1; x <= 1; x++)
+            {
+                for (int z = -1; z <= 1; z++)
+                {
+                    ChunkPos pos = new ChunkPos(sample.pos().x + x, sample.pos().z + z);
+                    if (!positions.contains(pos)) positions.add(pos);
+                }
+            }
+        }
+
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        toGenerate.forEach((level, positions) -> futures.add(WorldgenBenchmark.generateChunks(level, positions, new long[positions.size()], failures)));
+        BiomesOPlenty.LOGGER.info("Generating {} chunks to check {} biome samples on {}", toGenerate.values().stream().mapToInt(List::size).sum(), samples.size(), loader);
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).whenCompleteAsync((result, throwable) ->
+        {
+            JsonObject hashes = new JsonObject();
+            hashes.addProperty("seed", server.overworld().getSeed());
+            JsonObject sampleHashes = new JsonObject();
+
+            for (Sample sample : samples)
+            {
+                sampleHashes.add(sample.biome().location().toString(), hashSample(sample));
+            }
+
+            hashes.add("samples", sampleHashes);
+            toGenerate.forEach(WorldgenBenchmark::releaseChunks);
+
+            JsonObject report = new JsonObject();
+            report.addProperty("loader", loader);
+            report.addProperty("failedChunks", failures.get());
+
+            if (update)
+            {
+                WorldgenBenchmark.writeJson(hashes, goldenFile);
+                report.addProperty("updated", true);
+                report.addProperty("passed", failures.get() == 0);
+            }
+            else
+            {
+                compare(readGolden(goldenFile), hashes, report);
+                report.addProperty("passed", failures.get() == 0 && report.getAsJsonArray("mismatches").isEmpty());
+            }
+
+            WorldgenBenchmark.writeJson(report, output);
+            server.halt(false);
+        }, server);
+    }
+
+    private static List<Sample> findSamples(MinecraftServer server)
+    {
+        List<ServerLevel> levels = Stream.of(server.overworld(), server.getLevel(Level.NETHER)).filter(Objects::nonNull).toList();
+        List<Sample> samples = new ArrayList<>();
+        BlockPos origin = new BlockPos(0, 64, 0);
+
+        for (ResourceKey<Biome> biome : BOPBiomes.getAllBiomes())
+        {
+            Sample sample = null;
+
+            for (ServerLevel level : levels)
+            {
+                Pair<BlockPos, Holder<Biome>> found = level.findClosestBiome3d(holder -> holder.is(biome), origin, SEARCH_RADIUS, SEARCH_STEP, VERTICAL_SEARCH_STEP);
+
+                if (found != null)
+                {
+                    sample = new Sample(biome, level, new ChunkPos(found.getFirst()));
+                    break;
+                }
+            }
+
+            if (sample != null) samples.add(sample);
+            else BiomesOPlenty.LOGGER.warn("Couldn't find {} within {} blocks of the origin, skipping it", biome.location(), SEARCH_RADIUS);
+        }
+
+        return samples;
+    }
+
+    private static JsonObject hashSample(Sample sample)
+    {
+        LevelChunk chunk = sample.level().getChunk(sample.pos().x, sample.pos().z);
+        Map<BlockState, Long> stateHashes = new IdentityHashMap<>();
+        Map<Holder<Biome>, Long> biomeHashes = new IdentityHashMap<>();
+        JsonArray sections = new JsonArray();
+        long biomesHash = FNV_OFFSET_BASIS;
+
+        LevelChunkSection[] chunkSections = chunk.getSections();
+        for (int i = 0; i < chunkSections.length; i++)
+        {
+            LevelChunkSection section = chunkSections[i];
+            long sectionHash = FNV_OFFSET_BASIS;
+
+            for (int y = 0; y < 16; y++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    for (int x = 0; x < 16; x++)
+                    {
+                        sectionHash = mix(sectionHash, stateHashes.computeIfAbsent(section.getBlockState(x, y, z), state -> hash(state.toString())));
+                    }
+                }
+            }
+
+            for (int y = 0; y < 4; y++)
+            {
+                for (int z = 0; z < 4; z++)
+                {
+                    for (int x = 0; x < 4; x++)
+                    {
+                        biomesHash = mix(biomesHash, biomeHashes.computeIfAbsent(section.getNoiseBiome(x, y, z), holder -> hash(holder.unwrapKey().map(key -> key.location().toString()).orElse("unregistered"))));
+                    }
+                }
+            }
+
+            JsonObject sectionJson = new JsonObject();
+            sectionJson.addProperty("y", chunk.getSectionYFromSectionIndex(i));
+            sectionJson.addProperty("hash", Long.toHexString(sectionHash));
+            sections.add(sectionJson);
+        }
+
+        long heightmapsHash = FNV_OFFSET_BASIS;
+        for (Map.Entry<Heightmap.Types, Heightmap> entry : chunk.getHeightmaps())
+        {
+            heightmapsHash = mix(heightmapsHash, hash(entry.getKey().getSerializationKey()));
+
+            for (long value : entry.getValue().getRawData())
+            {
+                heightmapsHash = mix(heightmapsHash, value);
+            }
+        }
+
+        JsonObject json = new JsonObject();
+        json.addProperty("dimension", sample.level().dimension().location().toString());
+        json.addProperty("chunkX", sample.pos().x);
+        json.addProperty("chunkZ", sample.pos().z);
+        json.addProperty("biomes", Long.toHexString(biomesHash));
+        json.addProperty("heightmaps", Long.toHexString(heightmapsHash));
+        json.add("sections", sections);
+        return json;
+    }
+
+    private static void compare(JsonObject golden, JsonObject actual, JsonObject report)
+    {
+        JsonArray mismatches = new JsonArray();
+        report.add("mismatches", mismatches);
+
+        if (golden == null)
+        {
+            mismatches.add(mismatch("*", "No golden file found, run checkWorldgen with -PupdateGolden to create one"));
+            return;
+        }
+
+        if (golden.get("seed").getAsLong() != actual.get("seed").getAsLong())
+        {
+            mismatches.add(mismatch("*", "Golden file was generated with seed " + golden.get("seed").getAsLong()));
+            return;
+        }
+
+        JsonObject goldenSamples = golden.getAsJsonObject("samples");
+        JsonObject actualSamples = actual.getAsJsonObject("samples");
+        int checked = 0;
+
+        for (Map.Entry<String, JsonElement> entry : goldenSamples.entrySet())
+        {
+            String biome = entry.getKey();
+            JsonObject expected = entry.getValue().getAsJsonObject();
+            JsonObject sample = actualSamples.getAsJsonObject(biome);
+            checked++;
+
+            if (sample == null)
+            {
+                mismatches.add(mismatch(biome, "Biome was not found"));
+            }
+            else if (!expected.get("dimension").equals(sample.get("dimension")) || !expected.get("chunkX").equals(sample.get("chunkX")) || !expected.get("chunkZ").equals(sample.get("chunkZ")))
+            {
+                mismatches.add(mismatch(biome, "Nearest chunk moved from " + describe(expected) + " to " + describe(sample)));
+            }
+            else
+            {
+                String difference = findDifference(expected, sample);
+
+                if (difference != null)
+                    mismatches.add(mismatch(biome, "Chunk " + describe(sample) + " differs: " + difference));
+            }
+        }
+
+        for (String biome : actualSamples.keySet())
+        {
+            if (!goldenSamples.has(biome))
+                mismatches.add(mismatch(biome, "Biome is missing from the golden file"));
+        }
+
+        report.addProperty("checkedSamples", checked);
+
+        if (!mismatches.isEmpty())
+        {
+            JsonObject first = mismatches.get(0).getAsJsonObject();
+            BiomesOPlenty.LOGGER.error("Worldgen output changed for {} of {} samples, first: {} - {}", mismatches.size(), checked, first.get("biome").getAsString(), first.get("reason").getAsString());
+        }
+    }
+
+    private static String findDifference(JsonObject expected, JsonObject actual)
+    {
+        JsonArray expectedSections = expected.getAsJsonArray("sections");
+        JsonArray actualSections = actual.getAsJsonArray("sections");
+
+        if (expectedSections.size() != actualSections.size())
+            return "section count changed from " + expectedSections.size() + " to " + actualSections.size();
+
+        for (int i = 0; i < expectedSections.size(); i++)
+        {
+            JsonObject expectedSection = expectedSections.get(i).getAsJsonObject();
+
+            if (!expectedSection.equals(actualSections.get(i)))
+                return "blocks in section y=" + expectedSection.get("y").getAsInt() + " (blocks " + (expectedSection.get("y").getAsInt() * 16) + " to " + (expectedSection.get("y").getAsInt() * 16 + 15) + ")";
+        }
+
+        if (!expected.get("biomes").equals(actual.get("biomes")))
+            return "biomes";
+
+        if (!expected.get("heightmaps").equals(actual.get("heightmaps")))
+            return "heightmaps";
+
+        return null;
+    }
+
+    private static JsonObject readGolden(Path goldenFile)
+    {
+        if (!Files.isRegularFile(goldenFile))
+            return null;
+
+        try (Reader reader = Files.newBufferedReader(goldenFile, StandardCharsets.UTF_8))
+        {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        }
+        catch (IOException e)
+        {
+            BiomesOPlenty.LOGGER.error("Failed to read golden worldgen hashes", e);
+            return null;
+        }
+    }
+
+    private static JsonObject mismatch(String biome, String reason)
+    {
+        JsonObject json = new JsonObject();
+        json.addProperty("biome", biome);
+        json.addProperty("reason", reason);
+        return json;
+    }
+
+    private static String describe(JsonObject sample)
+    {
+        return sample.get("dimension").getAsString() + " [" + sample.get("chunkX").getAsInt() + ", " + sample.get("chunkZ").getAsInt() + "]";
+    }
+
+    private static long hash(String value)
+    {
+        long hash = FNV_OFFSET_BASIS;
+
+        for (int i = 0; i < value.length(); i++)
+        {
+            hash = mix(hash, value.charAt(i));
+        }
+
+        return hash;
+    }
+
+    private static long mix(long hash, long value)
+    {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    private record Sample(ResourceKey<Biome> biome, ServerLevel level, ChunkPos pos) {}
+}
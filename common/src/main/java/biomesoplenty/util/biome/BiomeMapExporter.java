@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.util.biome;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.minecraft.core.Holder;
+import net.minecraft.core.QuartPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeSource;
+import net.minecraft.world.level.biome.Climate;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Renders a map of the biomes in an area by sampling the level's biome source directly, without generating any chunks.
+ * This goes through the same climate sampler and TerraBlender region selection as worldgen, so it shows exactly where
+ * each biome will generate.
+ *
+ * Biomes are sampled at quart (4 block) resolution at a single height. The area is split into square tiles which are
+ * sampled in parallel, each written as its own PNG named after the quart coordinates of its corner, along with a
+ * histogram of how often each biome was sampled and the colour used for it.
+ */
+public class BiomeMapExporter
+{
+    public static final int TILE_SIZE = 512;
+
+    private final BiomeSource biomeSource;
+    private final Climate.Sampler sampler;
+    private final Path outputDir;
+    private final Map<Holder<Biome>, Integer> colors = new IdentityHashMap<>();
+
+    public BiomeMapExporter(ServerLevel level, Path outputDir)
+    {
+        this.biomeSource = level.getChunkSource().getGenerator().getBiomeSource();
+        this.sampler = level.getChunkSource().randomState().sampler();
+        this.outputDir = outputDir;
+    }
+
+    /**
+     * Samples a square area around the given block position, blocking until every tile has been written.
+     */
+    public Result export(int centerX, int centerZ, int radius, int y) throws IOException
+    {
+        Files.createDirectories(this.outputDir);
+
+        int minQuartX = QuartPos.fromBlock(centerX - radius);
+        int minQuartZ = QuartPos.fromBlock(centerZ - radius);
+        int sizeQuarts = QuartPos.fromBlock(radius * 2) + 1;
+        int quartY = QuartPos.fromBlock(y);
+
+        List<Tile> tiles = new ArrayList<>();
+        for (int tileX = 0; tileX < sizeQuarts; tileX += TILE_SIZE)
+        {
+            for (int tileZ = 0; tileZ < sizeQuarts; tileZ += TILE_SIZE)
+            {
+                tiles.add(new Tile(minQuartX + tileX, minQuartZ + tileZ, Math.min(TILE_SIZE, sizeQuarts - tileX), Math.min(TILE_SIZE, sizeQuarts - tileZ), quartY));
+            }
+        }
+
+        long startTime = System.nanoTime();
+        // Leave half the cores free, since the server keeps ticking while this runs
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+
+        try
+        {
+            pool.invoke(new RecursiveAction()
+            {
+                @Override
+                protected void compute()
+                {
+                    invokeAll(tiles);
+                }
+            });
+        }
+        catch (UncheckedIOException e)
+        {
+            throw e.getCause();
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+
+        Object2LongMap<Holder<Biome>> histogram = new Object2LongOpenHashMap<>();
+        for (Tile tile : tiles)
+        {
+            tile.counts.object2LongEntrySet().forEach(entry -> histogram.mergeLong(entry.getKey(), entry.getLongValue(), Long::sum));
+        }
+
+        long samples = (long)sizeQuarts * sizeQuarts;
+        Result result = new Result(tiles.size(), samples, System.nanoTime() - startTime);
+        writeHistogram(histogram, result);
+        return result;
+    }
+
+    private void writeHistogram(Object2LongMap<Holder<Biome>> histogram, Result result) throws IOException
+    {
+        JsonArray biomes = new JsonArray();
+
+        histogram.object2LongEntrySet().stream().sorted(Comparator.comparingLong(Object2LongMap.Entry<Holder<Biome>>::getLongValue).reversed()).forEach(entry ->
+        {
+            JsonObject biome = new JsonObject();
+            biome.addProperty("biome", getName(entry.getKey()));
+            biome.addProperty("samples", entry.getLongValue());
+            biome.addProperty("percent", entry.getLongValue() * 100.0D / result.samples());
+            biome.addProperty("color", String.format("#%06x", getColor(entry.getKey()) & 0xFFFFFF));
+            biomes.add(biome);
+        });
+
+        JsonObject json = new JsonObject();
+        json.addProperty("tiles", result.tiles());
+        json.addProperty("samples", result.samples());
+        json.addProperty("samplesPerSecond", result.samplesPerSecond());
+        json.add("biomes", biomes);
+
+        try (Writer writer = Files.newBufferedWriter(this.outputDir.resolve("biome_histogram.json"), StandardCharsets.UTF_8))
+        {
+            new GsonBuilder().setPrettyPrinting().create().toJson(json, writer);
+        }
+    }
+
+    private int getColor(Holder<Biome> biome)
+    {
+        synchronized (this.colors)
+        {
+            // Derive a stable colour from the biome's name, so the same biome has the same colour across exports
+            return this.colors.computeIfAbsent(biome, holder -> {
+                int hash = getName(holder).hashCode() * 0x9E3779B9;
+                return Color.HSBtoRGB((hash >>> 16) / 65536.0F, 0.45F + (hash & 0xFF) / 512.0F, 0.6F + ((hash >>> 8) & 0xFF) / 640.0F);
+            });
+        }
+    }
+
+    private static String getName(Holder<Biome> biome)
+    {
+        return biome.unwrapKey().map(key -> key.location().toString()).orElse("unregistered");
+    }
+
+    private class Tile extends RecursiveAction
+    {
+        private final int quartX;
+        private final int quartZ;
+        private final int width;
+        private final int height;
+        private final int quartY;
+        private final Object2LongMap<Holder<Biome>> counts = new Object2LongOpenHashMap<>();
+
+        private Tile(int quartX, int quartZ, int width, int height, int quartY)
+        {
+            this.quartX = quartX;
+            this.quartZ = quartZ;
+            this.width = width;
+            this.height = height;
+            this.quartY = quartY;
+        }
+
+        @Override
+        protected void compute()
+        {
+            BufferedImage image = new BufferedImage(this.width, this.height, BufferedImage.TYPE_INT_RGB);
+            Holder<Biome> lastBiome = null;
+            int lastColor = 0;
+
+            for (int z = 0; z < this.height; z++)
+            {
+                for (int x = 0; x < this.width; x++)
+                {
+                    Holder<Biome> biome = biomeSource.getNoiseBiome(this.quartX + x, this.quartY, this.quartZ + z, sampler);
+                    this.counts.mergeLong(biome, 1L, Long::sum);
+
+                    // Neighbouring samples are usually the same biome, so avoid the shared colour lookup
+                    if (biome != lastBiome)
+                    {
+                        lastBiome = biome;
+                        lastColor = getColor(biome);
+                    }
+
+                    image.setRGB(x, z, lastColor);
+                }
+            }
+
+            try
+            {
+                ImageIO.write(image, "png", outputDir.resolve("tile_" + this.quartX + "_" + this.quartZ + ".png").toFile());
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public record Result(int tiles, long samples, long elapsedNanos)
+    {
+        public double samplesPerSecond()
+        {
+            return this.samples / (this.elapsedNanos / 1.0E9D);
+        }
+    }
+}
@@ -5,9 +5,11 @@
 package biomesoplenty.util.biome;
 
 import biomesoplenty.api.block.BOPBlocks;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Blocks;
@@ -19,6 +21,17 @@ import java.util.function.Consumer;
 
 public class RoseQuartzUtils
 {
+    // Rose quartz radii are small, so the probe points for every radius we're likely to see are worked out up front
+    private static final int[][] CIRCLE_OFFSETS = new int[65][];
+
+    static
+    {
+        for (int radius = 0; radius < CIRCLE_OFFSETS.length; radius++)
+        {
+            CIRCLE_OFFSETS[radius] = computeCircleOffsets(radius);
+        }
+    }
+
     public static double getRoseQuartzHeight(double p_159624_, double p_159625_, double p_159626_, double p_159627_) {
         if (p_159624_ < p_159627_) {
             p_159624_ = p_159627_;
@@ -42,13 +55,13 @@ public class RoseQuartzUtils
         }
         else
         {
-            float f = 6.0F;
-            float f1 = 6.0F / (float)p_159642_;
+            int[] offsets = getCircleOffsets(p_159642_);
+            BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
 
-            for(float f2 = 0.0F; f2 < ((float)Math.PI * 2F); f2 += f1) {
-                int i = (int)(Mth.cos(f2) * (float)p_159642_);
-                int j = (int)(Mth.sin(f2) * (float)p_159642_);
-                if (isEmptyOrWaterOrLava(p_159640_, p_159641_.offset(i, 0, j))) {
+            for (int i = 0; i < offsets.length; i += 2)
+            {
+                if (isEmptyOrWaterOrLava(p_159640_, pos.setWithOffset(p_159641_, offsets[i], 0, offsets[i + 1])))
+                {
                     return false;
                 }
             }
@@ -57,6 +70,39 @@ public class RoseQuartzUtils
         }
     }
 
+    private static int[] getCircleOffsets(int radius)
+    {
+        return radius < CIRCLE_OFFSETS.length ? CIRCLE_OFFSETS[radius] : computeCircleOffsets(radius);
+    }
+
+    /**
+     * Returns the x and z offsets of the points probed around a circle of the given radius, as consecutive pairs.
+     * Points are stepped around the circle exactly as vanilla's dripstone does, with repeated offsets removed.
+     */
+    private static int[] computeCircleOffsets(int radius)
+    {
+        float f1 = 6.0F / (float)radius;
+        LongLinkedOpenHashSet offsets = new LongLinkedOpenHashSet();
+
+        for (float f2 = 0.0F; f2 < ((float)Math.PI * 2F); f2 += f1)
+        {
+            int i = (int)(Mth.cos(f2) * (float)radius);
+            int j = (int)(Mth.sin(f2) * (float)radius);
+            offsets.add(ChunkPos.asLong(i, j));
+        }
+
+        int[] result = new int[offsets.size() * 2];
+        int index = 0;
+
+        for (long offset : offsets)
+        {
+            result[index++] = ChunkPos.getX(offset);
+            result[index++] = ChunkPos.getZ(offset);
+        }
+
+        return result;
+    }
+
     public static boolean isEmptyOrWater(LevelAccessor p_159629_, BlockPos p_159630_)
     {
         return p_159629_.isStateAtPosition(p_159630_, RoseQuartzUtils::isEmptyOrWater);
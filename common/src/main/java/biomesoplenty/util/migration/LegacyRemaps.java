@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.util.migration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replacements for ids used by older versions of Biomes O' Plenty, keyed by the old path in the biomesoplenty namespace.
+ * Kept free of game classes so the offline world migrator can run without Minecraft on the classpath.
+ */
+public class LegacyRemaps
+{
+    public static final String NAMESPACE = "biomesoplenty";
+
+    public static final Map<String, String> BLOCKS = new LinkedHashMap<>();
+    public static final Map<String, String> ITEMS = new LinkedHashMap<>();
+    public static final Map<String, String> BIOMES = new LinkedHashMap<>();
+
+    /**
+     * Returns the replacement for a legacy block id, or null if the id is not a legacy BOP block.
+     */
+    public static String remapBlock(String id)
+    {
+        return remap(BLOCKS, id);
+    }
+
+    /**
+     * Returns the replacement for a legacy item id, or null if the id is not a legacy BOP item.
+     * Block items follow their block's remapping.
+     */
+    public static String remapItem(String id)
+    {
+        String replacement = remap(ITEMS, id);
+        return replacement != null ? replacement : remap(BLOCKS, id);
+    }
+
+    /**
+     * Returns the replacement for a legacy biome id, or null if the id is not a legacy BOP biome.
+     */
+    public static String remapBiome(String id)
+    {
+        return remap(BIOMES, id);
+    }
+
+    private static String remap(Map<String, String> remaps, String id)
+    {
+        if (!id.startsWith(NAMESPACE) || id.length() <= NAMESPACE.length() || id.charAt(NAMESPACE.length()) != ':')
+            return null;
+
+        return remaps.get(id.substring(NAMESPACE.length() + 1));
+    }
+
+    static
+    {
+        // Cherry
+        BLOCKS.put("white_cherry_sapling", "biomesoplenty:snowblossom_sapling");
+        BLOCKS.put("white_cherry_leaves", "biomesoplenty:snowblossom_leaves");
+        BLOCKS.put("pink_cherry_sapling", "minecraft:cherry_sapling");
+        BLOCKS.put("pink_cherry_leaves", "minecraft:cherry_leaves");
+        BLOCKS.put("cherry_log", "minecraft:cherry_log");
+        BLOCKS.put("cherry_wood", "minecraft:cherry_wood");
+        BLOCKS.put("stripped_cherry_log", "minecraft:stripped_cherry_log");
+        BLOCKS.put("stripped_cherry_wood", "minecraft:stripped_cherry_wood");
+        BLOCKS.put("cherry_planks", "minecraft:cherry_planks");
+        BLOCKS.put("cherry_stairs", "minecraft:cherry_stairs");
+        BLOCKS.put("cherry_slab", "minecraft:cherry_slab");
+        BLOCKS.put("cherry_fence", "minecraft:cherry_fence");
+        BLOCKS.put("cherry_fence_gate", "minecraft:cherry_fence_gate");
+        BLOCKS.put("cherry_door", "minecraft:cherry_door");
+        BLOCKS.put("cherry_trapdoor", "minecraft:cherry_trapdoor");
+        BLOCKS.put("cherry_pressure_plate", "minecraft:cherry_pressure_plate");
+        BLOCKS.put("cherry_button", "minecraft:cherry_button");
+        BLOCKS.put("cherry_sign", "minecraft:cherry_sign");
+        BLOCKS.put("cherry_wall_sign", "minecraft:cherry_wall_sign");
+        BLOCKS.put("potted_white_cherry_sapling", "biomesoplenty:potted_snowblossom_sapling");
+        BLOCKS.put("potted_pink_cherry_sapling", "minecraft:potted_cherry_sapling");
+        // Maple
+        BLOCKS.put("maple_sapling", "biomesoplenty:red_maple_sapling");
+        BLOCKS.put("orange_autumn_sapling", "biomesoplenty:orange_maple_sapling");
+        BLOCKS.put("yellow_autumn_sapling", "biomesoplenty:yellow_maple_sapling");
+        BLOCKS.put("maple_leaves", "biomesoplenty:red_maple_leaves");
+        BLOCKS.put("orange_autumn_leaves", "biomesoplenty:orange_maple_leaves");
+        BLOCKS.put("yellow_autumn_leaves", "biomesoplenty:yellow_maple_leaves");
+        BLOCKS.put("potted_maple_sapling", "biomesoplenty:potted_red_maple_sapling");
+        BLOCKS.put("potted_orange_autumn_sapling", "biomesoplenty:potted_orange_maple_sapling");
+        BLOCKS.put("potted_yellow_autumn_sapling", "biomesoplenty:potted_yellow_maple_sapling");
+        // Mud
+        BLOCKS.put("mud", "minecraft:mud");
+        BLOCKS.put("mud_bricks", "minecraft:mud_bricks");
+        BLOCKS.put("mud_brick_block", "minecraft:mud_bricks");
+        BLOCKS.put("mud_brick_stairs", "minecraft:mud_brick_stairs");
+        BLOCKS.put("mud_brick_slab", "minecraft:mud_brick_slab");
+        BLOCKS.put("mud_brick_wall", "minecraft:mud_brick_wall");
+        // Misc
+        BLOCKS.put("loamy_grass_block", "minecraft:grass_block");
+        BLOCKS.put("loamy_dirt", "minecraft:dirt");
+        BLOCKS.put("coarse_loamy_dirt", "minecraft:coarse_dirt");
+        BLOCKS.put("loamy_grass_path", "minecraft:dirt_path");
+        BLOCKS.put("loamy_farmland", "minecraft:farmland");
+        BLOCKS.put("silty_grass_block", "minecraft:grass_block");
+        BLOCKS.put("silty_dirt", "minecraft:dirt");
+        BLOCKS.put("coarse_silty_dirt", "minecraft:coarse_dirt");
+        BLOCKS.put("silty_grass_path", "minecraft:dirt_path");
+        BLOCKS.put("silty_farmland", "minecraft:farmland");
+        BLOCKS.put("sandy_grass_block", "minecraft:grass_block");
+        BLOCKS.put("sandy_dirt", "minecraft:dirt");
+        BLOCKS.put("coarse_sandy_dirt", "minecraft:coarse_dirt");
+        BLOCKS.put("sandy_grass_path", "minecraft:dirt_path");
+        BLOCKS.put("sandy_farmland", "minecraft:farmland");
+        BLOCKS.put("overgrown_black_sand", "biomesoplenty:mossy_black_sand");
+        BLOCKS.put("dried_sand", "biomesoplenty:dried_salt");
+        BLOCKS.put("ash_block", "minecraft:basalt");
+        BLOCKS.put("rooted_sand", "minecraft:sand");
+        BLOCKS.put("root", "minecraft:hanging_roots");
+        BLOCKS.put("nether_sprout", "biomesoplenty:sprout");
+        BLOCKS.put("tall_cattail", "biomesoplenty:cattail");
+        BLOCKS.put("ivy", "biomesoplenty:willow_vine");
+        BLOCKS.put("short_grass", "minecraft:short_grass");
+        BLOCKS.put("thorn", "minecraft:dead_bush");
+        BLOCKS.put("deathbloom", "minecraft:wither_rose");
+        BLOCKS.put("devilweed", "biomesoplenty:sprout");
+        BLOCKS.put("flowering_sapling", "biomesoplenty:flowering_oak_sapling");
+        BLOCKS.put("flowering_leaves", "biomesoplenty:flowering_oak_leaves");
+        BLOCKS.put("nether_crystal_block", "biomesoplenty:rose_quartz_block");
+        BLOCKS.put("nether_crystal", "biomesoplenty:rose_quartz_cluster");
+        BLOCKS.put("tall_wheat", "biomesoplenty:barley");
+        BLOCKS.put("potted_clover", "minecraft:flower_pot");
+        BLOCKS.put("potted_wildflower", "minecraft:flower_pot");
+
+        ITEMS.put("cherry_sign", "minecraft:cherry_sign");
+        ITEMS.put("cherry_boat", "minecraft:cherry_boat");
+        ITEMS.put("cherry_chest_boat", "minecraft:cherry_chest_boat");
+        ITEMS.put("record_wanderer", "biomesoplenty:music_disc_wanderer");
+        ITEMS.put("rose_quartz_shard", "biomesoplenty:rose_quartz_chunk");
+
+        BIOMES.put("alps", "minecraft:jagged_peaks");
+        BIOMES.put("alps_foothills", "minecraft:grove");
+        BIOMES.put("ashen_inferno", "biomesoplenty:erupting_inferno");
+        BIOMES.put("aspen_forest", "biomesoplenty:aspen_glade");
+        BIOMES.put("bamboo_grove", "minecraft:cherry_grove");
+        BIOMES.put("bamboo_blossom_grove", "minecraft:cherry_grove");
+        BIOMES.put("bayou_mangrove", "biomesoplenty:bayou");
+        BIOMES.put("boreal_forest", "biomesoplenty:aspen_glade");
+        BIOMES.put("brushland", "biomesoplenty:dryland");
+        BIOMES.put("burnt_forest", "biomesoplenty:old_growth_dead_forest");
+        BIOMES.put("chaparral", "biomesoplenty:rocky_shrubland");
+        BIOMES.put("cherry_blossom_grove", "minecraft:cherry_grove");
+        BIOMES.put("clover_patch", "biomesoplenty:grassland");
+        BIOMES.put("coniferous_lakes", "biomesoplenty:coniferous_forest");
+        BIOMES.put("dead_swamp", "minecraft:swamp");
+        BIOMES.put("deep_bayou", "biomesoplenty:bayou");
+        BIOMES.put("dense_marsh", "biomesoplenty:marsh");
+        BIOMES.put("dense_woodland", "biomesoplenty:old_growth_woodland");
+        BIOMES.put("dry_boneyard", "biomesoplenty:dryland");
+        BIOMES.put("dry_plains", "biomesoplenty:scrubland");
+        BIOMES.put("dry_steppe", "biomesoplenty:dryland");
+        BIOMES.put("dunes", "biomesoplenty:dune_beach");
+        BIOMES.put("flower_meadow", "biomesoplenty:field");
+        BIOMES.put("fungal_field", "biomesoplenty:fungal_jungle");
+        BIOMES.put("ghost_forest", "biomesoplenty:muskeg");
+        BIOMES.put("glowstone_grotto", "biomesoplenty:crystalline_chasm");
+        BIOMES.put("golden_prairie", "biomesoplenty:pasture");
+        BIOMES.put("grassland_clover_patch", "biomesoplenty:grassland");
+        BIOMES.put("gravel_beach", "minecraft:stony_shore");
+        BIOMES.put("grove", "biomesoplenty:mediterranean_forest");
+        BIOMES.put("grove_clearing", "biomesoplenty:mediterranean_forest");
+        BIOMES.put("grove_lakes", "biomesoplenty:mediterranean_forest");
+        BIOMES.put("highland_crag", "biomesoplenty:crag");
+        BIOMES.put("highland_moor", "biomesoplenty:moor");
+        BIOMES.put("infernal_ashlands", "biomesoplenty:erupting_inferno");
+        BIOMES.put("jacaranda_forest", "biomesoplenty:jacaranda_glade");
+        BIOMES.put("lavender_forest", "biomesoplenty:jacaranda_glade");
+        BIOMES.put("lush_grassland", "minecraft:sparse_jungle");
+        BIOMES.put("lush_swamp", "minecraft:swamp");
+        BIOMES.put("mangrove", "minecraft:mangrove_swamp");
+        BIOMES.put("meadow", "biomesoplenty:field");
+        BIOMES.put("meadow_forest", "biomesoplenty:forested_field");
+        BIOMES.put("mediterranean_lakes", "biomesoplenty:mediterranean_forest");
+        BIOMES.put("mire", "biomesoplenty:muskeg");
+        BIOMES.put("mystic_plains", "biomesoplenty:mystic_grove");
+        BIOMES.put("oasis", "minecraft:desert");
+        BIOMES.put("ominous_mire", "biomesoplenty:ominous_woods");
+        BIOMES.put("origin_beach", "biomesoplenty:origin_valley");
+        BIOMES.put("origin_hills", "biomesoplenty:origin_valley");
+        BIOMES.put("outback", "biomesoplenty:lush_desert");
+        BIOMES.put("overgrown_cliffs", "biomesoplenty:rocky_rainforest");
+        BIOMES.put("poppy_field", "biomesoplenty:lush_savanna");
+        BIOMES.put("rainbow_hills", "biomesoplenty:auroral_garden");
+        BIOMES.put("rainbow_valley", "biomesoplenty:auroral_garden");
+        BIOMES.put("rainforest_cliffs", "biomesoplenty:rocky_rainforest");
+        BIOMES.put("rainforest_floodplain", "biomesoplenty:floodplain");
+        BIOMES.put("redwood_forest_edge", "biomesoplenty:redwood_forest");
+        BIOMES.put("redwood_hills", "biomesoplenty:redwood_forest");
+        BIOMES.put("seasonal_orchard", "biomesoplenty:aspen_glade");
+        BIOMES.put("seasonal_pumpkin_patch", "biomesoplenty:pumpkin_patch");
+        BIOMES.put("shadowlands", "biomesoplenty:withered_abyss");
+        BIOMES.put("shield", "biomesoplenty:coniferous_forest");
+        BIOMES.put("shroomy_wetland", "biomesoplenty:wetland");
+        BIOMES.put("shrubland_hills", "biomesoplenty:rocky_shrubland");
+        BIOMES.put("silkglade", "biomesoplenty:wetland");
+        BIOMES.put("snowy_forest", "biomesoplenty:snowy_maple_woods");
+        BIOMES.put("steppe", "biomesoplenty:wasteland_steppe");
+        BIOMES.put("tall_dead_forest", "biomesoplenty:old_growth_dead_forest");
+        BIOMES.put("temperate_rainforest", "biomesoplenty:redwood_forest");
+        BIOMES.put("temperate_rainforest_hills", "biomesoplenty:redwood_forest");
+        BIOMES.put("tropic_beach", "biomesoplenty:tropics");
+        BIOMES.put("tropical_rainforest", "biomesoplenty:rainforest");
+        BIOMES.put("tundra_basin", "biomesoplenty:tundra");
+        BIOMES.put("tundra_bog", "biomesoplenty:bog");
+        BIOMES.put("undergarden", "biomesoplenty:undergrowth");
+        BIOMES.put("volcano_edge", "biomesoplenty:volcano");
+        BIOMES.put("wetland_forest", "biomesoplenty:wetland");
+        BIOMES.put("white_beach", "biomesoplenty:tropics");
+        BIOMES.put("wooded_scrubland", "biomesoplenty:scrubland");
+        BIOMES.put("wooded_wasteland", "biomesoplenty:wasteland");
+        BIOMES.put("xeric_shrubland", "biomesoplenty:dryland");
+    }
+}
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.util.migration;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Offline tool which rewrites ids from older versions of Biomes O' Plenty in a world folder, using the same remap
+ * table as the in-game missing mappings handler. Region files, player data and level.dat (which holds the singleplayer
+ * player) are processed in parallel and each completed file is recorded in a progress log inside the world folder, so
+ * an interrupted run picks up where it left off.
+ *
+ * The world must not be open in a game or server while this runs. Usage: {@code <world folder> [threads]}
+ */
+public class LegacyWorldMigrator
+{
+    private static final String PROGRESS_FILE_NAME = "bop_migration_progress.txt";
+
+    public static void main(String[] args) throws Exception
+    {
+        if (args.length < 1 || args[0].isEmpty())
+        {
+            System.err.println("Usage: LegacyWorldMigrator <world folder> [threads]");
+            System.exit(1);
+        }
+
+        Path worldDir = Paths.get(args[0]).toAbsolutePath().normalize();
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        if (!Files.isRegularFile(worldDir.resolve("level.dat")))
+        {
+            System.err.println("No level.dat found in " + worldDir);
+            System.exit(1);
+        }
+
+        new LegacyWorldMigrator(worldDir).run(threads);
+    }
+
+    private final Path worldDir;
+    private final Path progressFile;
+
+    public LegacyWorldMigrator(Path worldDir)
+    {
+        this.worldDir = worldDir;
+        this.progressFile = worldDir.resolve(PROGRESS_FILE_NAME);
+    }
+
+    public void run(int threads) throws IOException, InterruptedException, ExecutionException
+    {
+        Set<String> completed = readProgress();
+        List<Path> files = Stream.concat(findRegionFiles().stream(), findPlayerDataFiles().stream())
+                .filter(path -> !completed.contains(this.worldDir.relativize(path).toString()))
+                .collect(Collectors.toList());
+
+        System.out.println("Migrating " + files.size() + " region and player data files in " + this.worldDir + " (" + completed.size() + " already done) using " + threads + " threads");
+
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger chunksRewritten = new AtomicInteger();
+        AtomicInteger replacements = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        long startTime = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+
+        try (BufferedWriter progress = Files.newBufferedWriter(this.progressFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND))
+        {
+            pool.submit(() -> files.parallelStream().forEach(path ->
+            {
+                String relativePath = this.worldDir.relativize(path).toString();
+                String result;
+
+                try
+                {
+                    if (path.getFileName().toString().endsWith(".mca"))
+                    {
+                        RegionFileMigrator migrator = new RegionFileMigrator(path);
+                        migrator.migrate();
+                        chunksRewritten.addAndGet(migrator.getChunksRewritten());
+                        replacements.addAndGet(migrator.getReplacements());
+                        result = migrator.getChunksRewritten() + " chunks rewritten, " + migrator.getChunksSkipped() + " skipped";
+                    }
+                    else
+                    {
+                        NbtFileMigrator migrator = new NbtFileMigrator(path);
+                        migrator.migrate();
+                        replacements.addAndGet(migrator.getReplacements());
+                        result = migrator.getReplacements() + " ids replaced";
+                    }
+
+                    synchronized (progress)
+                    {
+                        progress.write(relativePath);
+                        progress.newLine();
+                        progress.flush();
+                    }
+                }
+                catch (IOException e)
+                {
+                    failures.incrementAndGet();
+                    result = "failed";
+                    System.err.println("Failed to migrate " + relativePath + ": " + e.getMessage());
+                }
+
+                int count = processed.incrementAndGet();
+                System.out.println("[" + count + "/" + files.size() + "] " + relativePath + ": " + result);
+            })).get();
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+
+        double seconds = (System.nanoTime() - startTime) / 1.0E9D;
+        System.out.println(String.format("Done in %.1fs: %d ids replaced, %d chunks rewritten, %d files failed", seconds, replacements.get(), chunksRewritten.get(), failures.get()));
+
+        if (failures.get() > 0)
+        {
+            System.out.println("Run the migrator again to retry the failed files");
+        }
+    }
+
+    private List<Path> findRegionFiles() throws IOException
+    {
+        // Chunks live in region folders, item entities in entities folders, for every dimension
+        try (Stream<Path> paths = Files.walk(this.worldDir))
+        {
+            return paths.filter(path -> path.getFileName().toString().endsWith(".mca") && Files.isRegularFile(path))
+                    .filter(path -> {
+                        String folder = path.getParent().getFileName().toString();
+                        return folder.equals("region") || folder.equals("entities");
+                    })
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private List<Path> findPlayerDataFiles() throws IOException
+    {
+        // Inventories and ender chests are stored per player, and level.dat holds the singleplayer player as well
+        List<Path> files = new ArrayList<>();
+        files.add(this.worldDir.resolve("level.dat"));
+        Path playerDataDir = this.worldDir.resolve("playerdata");
+
+        if (Files.isDirectory(playerDataDir))
+        {
+            try (Stream<Path> paths = Files.list(playerDataDir))
+            {
+                paths.filter(path -> path.getFileName().toString().endsWith(".dat") && Files.isRegularFile(path)).sorted().forEach(files::add);
+            }
+        }
+
+        return files;
+    }
+
+    private Set<String> readProgress() throws IOException
+    {
+        if (!Files.exists(this.progressFile))
+            return new HashSet<>();
+
+        try (Stream<String> lines = Files.lines(this.progressFile, StandardCharsets.UTF_8))
+        {
+            return lines.filter(line -> !line.isBlank()).collect(Collectors.toCollection(HashSet::new));
+        }
+        catch (UncheckedIOException e)
+        {
+            throw e.getCause();
+        }
+    }
+}
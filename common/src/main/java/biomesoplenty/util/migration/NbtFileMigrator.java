@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.util.migration;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Rewrites legacy ids in a single gzip compressed NBT file, such as level.dat or a player's inventory and ender chest in
+ * playerdata. Like {@link RegionFileMigrator}, the result is written to a temporary file which then replaces the original.
+ */
+public class NbtFileMigrator
+{
+    private final Path file;
+
+    private int replacements;
+
+    public NbtFileMigrator(Path file)
+    {
+        this.file = file;
+    }
+
+    /**
+     * Migrates the file in place, returning true if it was modified.
+     */
+    public boolean migrate() throws IOException
+    {
+        byte[] original = Files.readAllBytes(this.file);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(original.length * 4);
+        int fileReplacements;
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(new ByteArrayInputStream(original))));
+             DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(bytes))))
+        {
+            fileReplacements = new NbtIdRewriter(input, output).rewrite();
+        }
+
+        if (fileReplacements == 0)
+            return false;
+
+        Path tempFile = this.file.resolveSibling(this.file.getFileName() + ".bopmigrate");
+        Files.write(tempFile, bytes.toByteArray());
+        Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        this.replacements = fileReplacements;
+        return true;
+    }
+
+    public int getReplacements()
+    {
+        return this.replacements;
+    }
+}
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.util.migration;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Streams an NBT tag from an input to an output, replacing legacy BOP block, item and biome ids along the way.
+ * Tags are copied as they are read rather than parsed into a tree, so a chunk is never held in memory twice.
+ */
+public class NbtIdRewriter
+{
+    private static final byte TAG_END = 0;
+    private static final byte TAG_BYTE = 1;
+    private static final byte TAG_SHORT = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_FLOAT = 5;
+    private static final byte TAG_DOUBLE = 6;
+    private static final byte TAG_BYTE_ARRAY = 7;
+    private static final byte TAG_STRING = 8;
+    private static final byte TAG_LIST = 9;
+    private static final byte TAG_COMPOUND = 10;
+    private static final byte TAG_INT_ARRAY = 11;
+    private static final byte TAG_LONG_ARRAY = 12;
+
+    private static final int MAX_DEPTH = 512;
+
+    private final DataInput input;
+    private final DataOutput output;
+    private int replacements;
+
+    public NbtIdRewriter(DataInput input, DataOutput output)
+    {
+        this.input = input;
+        this.output = output;
+    }
+
+    /**
+     * Copies a single named root tag, returning the number of ids that were replaced.
+     */
+    public int rewrite() throws IOException
+    {
+        byte type = this.input.readByte();
+        this.output.writeByte(type);
+
+        if (type != TAG_END)
+        {
+            this.output.writeUTF(this.input.readUTF());
+            copyPayload(type, "", "", 0);
+        }
+
+        return this.replacements;
+    }
+
+    private void copyPayload(byte type, String name, String parentName, int depth) throws IOException
+    {
+        if (depth > MAX_DEPTH)
+            throw new IOException("NBT tag nested too deeply");
+
+        switch (type)
+        {
+            case TAG_BYTE -> this.output.writeByte(this.input.readByte());
+            case TAG_SHORT -> this.output.writeShort(this.input.readShort());
+            case TAG_INT, TAG_FLOAT -> this.output.writeInt(this.input.readInt());
+            case TAG_LONG, TAG_DOUBLE -> this.output.writeLong(this.input.readLong());
+            case TAG_BYTE_ARRAY -> copyArray(1);
+            case TAG_INT_ARRAY -> copyArray(4);
+            case TAG_LONG_ARRAY -> copyArray(8);
+            case TAG_STRING -> copyString(name, parentName, null);
+            case TAG_LIST -> copyList(name, parentName, depth);
+            case TAG_COMPOUND -> copyCompound(name, parentName, depth);
+            default -> throw new IOException("Unknown NBT tag type " + type);
+        }
+    }
+
+    private void copyArray(int elementSize) throws IOException
+    {
+        int length = this.input.readInt();
+
+        if (length < 0)
+            throw new IOException("Negative NBT array length");
+
+        this.output.writeInt(length);
+        long remaining = (long)length * elementSize;
+        byte[] buffer = new byte[(int)Math.min(remaining, 8192)];
+
+        while (remaining > 0)
+        {
+            int count = (int)Math.min(remaining, buffer.length);
+            this.input.readFully(buffer, 0, count);
+            this.output.write(buffer, 0, count);
+            remaining -= count;
+        }
+    }
+
+    private void copyList(String name, String parentName, int depth) throws IOException
+    {
+        byte elementType = this.input.readByte();
+        int length = this.input.readInt();
+        this.output.writeByte(elementType);
+        this.output.writeInt(length);
+
+        for (int i = 0; i < length; i++)
+        {
+            // List elements are unnamed, so they inherit the list's name for context
+            if (elementType == TAG_STRING) copyString(null, name, parentName);
+            else copyPayload(elementType, name, parentName, depth + 1);
+        }
+    }
+
+    private void copyCompound(String name, String parentName, int depth) throws IOException
+    {
+        byte childType;
+
+        while ((childType = this.input.readByte()) != TAG_END)
+        {
+            String childName = this.input.readUTF();
+            this.output.writeByte(childType);
+            this.output.writeUTF(childName);
+
+            if (childType == TAG_STRING) copyString(childName, name, parentName);
+            else copyPayload(childType, childName, name, depth + 1);
+        }
+
+        this.output.writeByte(TAG_END);
+    }
+
+    /**
+     * Copies a string, replacing it if its position identifies it as a block, item or biome id.
+     *
+     * @param name the name of the string tag, or null for list elements
+     * @param containerName the name of the compound or list containing the string
+     * @param containerParentName the name of the tag containing that compound or list
+     */
+    private void copyString(String name, String containerName, String containerParentName) throws IOException
+    {
+        String value = this.input.readUTF();
+        String replacement = null;
+
+        if (value.startsWith(LegacyRemaps.NAMESPACE))
+        {
+            if (name == null)
+            {
+                // Biome palettes are lists of plain ids
+                if (containerName.equals("palette") && "biomes".equals(containerParentName))
+                    replacement = LegacyRemaps.remapBiome(value);
+            }
+            else if (name.equals("Name"))
+            {
+                // Block state palettes, in both the current and pre-1.18 chunk formats
+                if ((containerName.equals("palette") && "block_states".equals(containerParentName)) || containerName.equals("Palette"))
+                    replacement = LegacyRemaps.remapBlock(value);
+            }
+            else if (name.equals("id"))
+            {
+                // Block entity and entity ids are never legacy BOP ids, so any match is an item stack
+                replacement = LegacyRemaps.remapItem(value);
+            }
+        }
+
+        if (replacement != null)
+        {
+            this.replacements++;
+            this.output.writeUTF(replacement);
+        }
+        else
+        {
+            this.output.writeUTF(value);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.util.migration;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Rewrites legacy ids in every chunk of a single Anvil region file.
+ * The source file is read into memory in one go and the result is written to a temporary file which then replaces it,
+ * so an interrupted migration never leaves a half-written region behind. Region files whose header points outside the
+ * file are left alone entirely, rather than rewritten without the chunks that could not be read.
+ */
+public class RegionFileMigrator
+{
+    private static final int SECTOR_SIZE = 4096;
+    private static final int CHUNK_COUNT = 1024;
+    private static final int HEADER_SIZE = SECTOR_SIZE * 2;
+    private static final int MAX_SECTORS_PER_CHUNK = 255;
+
+    private static final byte COMPRESSION_GZIP = 1;
+    private static final byte COMPRESSION_ZLIB = 2;
+    private static final byte COMPRESSION_NONE = 3;
+    private static final byte EXTERNAL_FLAG = (byte)128;
+
+    private final Path regionFile;
+
+    private int chunksRewritten;
+    private int chunksSkipped;
+    private int replacements;
+
+    public RegionFileMigrator(Path regionFile)
+    {
+        this.regionFile = regionFile;
+    }
+
+    /**
+     * Migrates the region file in place, returning true if it was modified.
+     */
+    public boolean migrate() throws IOException
+    {
+        byte[][] chunks = new byte[CHUNK_COUNT][];
+        int[] timestamps = new int[CHUNK_COUNT];
+        boolean modified = false;
+
+        // Read into a heap buffer rather than mapping the file, since a mapping can't be released before the file is replaced
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(this.regionFile));
+        long size = buffer.capacity();
+
+        if (size < HEADER_SIZE)
+            return false;
+
+        for (int i = 0; i < CHUNK_COUNT; i++)
+        {
+            int location = buffer.getInt(i * 4);
+            timestamps[i] = buffer.getInt(SECTOR_SIZE + i * 4);
+
+            if (location == 0)
+                continue;
+
+            long offset = (long)(location >>> 8) * SECTOR_SIZE;
+
+            if (offset < HEADER_SIZE || offset + 5 > size)
+                throw new IOException("Chunk " + i + " starts outside the region file");
+
+            int length = buffer.getInt((int)offset);
+
+            if (length <= 0 || offset + 4 + length > size)
+                throw new IOException("Chunk " + i + " has an invalid length of " + length);
+
+            // Keep the original payload (length prefix excluded) unless the chunk changes
+            byte[] payload = new byte[length];
+            buffer.get((int)offset + 4, payload);
+            byte[] rewritten = rewriteChunk(payload);
+
+            if (rewritten != null)
+            {
+                chunks[i] = rewritten;
+                modified = true;
+            }
+            else
+            {
+                chunks[i] = payload;
+            }
+        }
+
+        if (modified)
+        {
+            writeRegion(chunks, timestamps);
+        }
+
+        return modified;
+    }
+
+    /**
+     * Returns the recompressed payload of a chunk, or null if it contained no legacy ids or could not be read.
+     */
+    private byte[] rewriteChunk(byte[] payload) throws IOException
+    {
+        byte compression = payload[0];
+
+        // Oversized chunks stored in external .mcc files and unsupported compression types (such as LZ4) are left as they are
+        if ((compression & EXTERNAL_FLAG) != 0 || (compression != COMPRESSION_GZIP && compression != COMPRESSION_ZLIB && compression != COMPRESSION_NONE))
+        {
+            this.chunksSkipped++;
+            return null;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length * 4);
+        bytes.write(compression);
+        int chunkReplacements;
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(decompress(compression, new ByteArrayInputStream(payload, 1, payload.length - 1))));
+             DataOutputStream output = new DataOutputStream(new BufferedOutputStream(compress(compression, bytes))))
+        {
+            chunkReplacements = new NbtIdRewriter(input, output).rewrite();
+        }
+        catch (IOException e)
+        {
+            // The streams are all in memory, so this can only be a corrupt chunk
+            this.chunksSkipped++;
+            return null;
+        }
+
+        if (chunkReplacements == 0)
+            return null;
+
+        byte[] rewritten = bytes.toByteArray();
+
+        // Never move a chunk out to an external file, keep the original if the new one would not fit
+        if (sectorsFor(rewritten.length) > MAX_SECTORS_PER_CHUNK)
+        {
+            this.chunksSkipped++;
+            return null;
+        }
+
+        this.chunksRewritten++;
+        this.replacements += chunkReplacements;
+        return rewritten;
+    }
+
+    private void writeRegion(byte[][] chunks, int[] timestamps) throws IOException
+    {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        int sector = HEADER_SIZE / SECTOR_SIZE;
+
+        for (int i = 0; i < CHUNK_COUNT; i++)
+        {
+            if (chunks[i] != null)
+            {
+                int sectors = sectorsFor(chunks[i].length);
+                header.putInt(i * 4, (sector << 8) | sectors);
+                sector += sectors;
+            }
+
+            header.putInt(SECTOR_SIZE + i * 4, timestamps[i]);
+        }
+
+        Path tempFile = this.regionFile.resolveSibling(this.regionFile.getFileName() + ".bopmigrate");
+
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile), 1 << 16)))
+        {
+            output.write(header.array());
+
+            for (byte[] chunk : chunks)
+            {
+                if (chunk == null)
+                    continue;
+
+                output.writeInt(chunk.length);
+                output.write(chunk);
+
+                // Pad to the end of the sector
+                int padding = sectorsFor(chunk.length) * SECTOR_SIZE - (chunk.length + 4);
+                output.write(new byte[padding]);
+            }
+        }
+
+        Files.move(tempFile, this.regionFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static int sectorsFor(int payloadLength)
+    {
+        return (payloadLength + 4 + SECTOR_SIZE - 1) / SECTOR_SIZE;
+    }
+
+    private static InputStream decompress(byte compression, InputStream input) throws IOException
+    {
+        return switch (compression)
+        {
+            case COMPRESSION_GZIP -> new GZIPInputStream(input);
+            case COMPRESSION_ZLIB -> new InflaterInputStream(input);
+            default -> input;
+        };
+    }
+
+    private static OutputStream compress(byte compression, OutputStream output) throws IOException
+    {
+        return switch (compression)
+        {
+            case COMPRESSION_GZIP -> new GZIPOutputStream(output);
+            case COMPRESSION_ZLIB -> new DeflaterOutputStream(output);
+            default -> output;
+        };
+    }
+
+    public int getChunksRewritten()
+    {
+        return this.chunksRewritten;
+    }
+
+    public int getChunksSkipped()
+    {
+        return this.chunksSkipped;
+    }
+
+    public int getReplacements()
+    {
+        return this.replacements;
+    }
+}
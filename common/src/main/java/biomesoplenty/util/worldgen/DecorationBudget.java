@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.util.worldgen;
+
+import biomesoplenty.init.ModConfig;
+import biomesoplenty.worldgen.placement.*;
+import com.google.common.collect.ImmutableSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.levelgen.placement.PlacedFeature;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in time budget for chunk decoration. Our placed features are either structural (trees, lakes, large features)
+ * or cosmetic (splatters, leaf piles, scattered rocks, cobwebs and the like). Once decorating a chunk has taken longer
+ * than the configured budget, cosmetic features are thinned for the rest of that chunk.
+ *
+ * Whether a feature is thinned is decided from the chunk position and feature alone, so a thinned feature is skipped
+ * entirely rather than partially placed. Each placed feature has its own random seed, so skipping one has no effect on
+ * the others.
+ */
+public class DecorationBudget
+{
+    private static final Set<ResourceKey<PlacedFeature>> COSMETIC_FEATURES = ImmutableSet.of(
+        BOPCavePlacements.EXTRA_GLOW_LICHEN, BOPCavePlacements.GLOWWORM_SILK_STRANDS, BOPCavePlacements.HANGING_COBWEBS,
+        BOPCavePlacements.CORNER_COBWEBS, BOPCavePlacements.STRINGY_COBWEB, BOPCavePlacements.WEBBING,
+        BOPEndPlacements.BARNACLES,
+        BOPMiscOverworldPlacements.CRAG_MOSS, BOPMiscOverworldPlacements.CRAG_SPLATTER, BOPMiscOverworldPlacements.MOSSY_BLACK_SAND_SPLATTER,
+        BOPMiscOverworldPlacements.MUD_SPLATTER,
+        BOPNetherPlacements.INFERNO_SPLATTER, BOPNetherPlacements.OBSIDIAN_SPLATTER,
+        BOPVegetationPlacements.COLD_DESERT_ROCKS, BOPVegetationPlacements.HIGHLAND_ROCKS, BOPVegetationPlacements.DRIPSTONE_SPLATTER,
+        BOPVegetationPlacements.MYCELIUM_SPLATTER, BOPVegetationPlacements.MOSS_SPLATTER, BOPVegetationPlacements.HIGH_GRASS,
+        BOPVegetationPlacements.SPARSE_DUNE_GRASS, BOPVegetationPlacements.SCATTERED_ROCKS, BOPVegetationPlacements.SCATTERED_ROCKS_HIGHLAND,
+        BOPVegetationPlacements.RED_MAPLE_LEAF_PILES, BOPVegetationPlacements.ORANGE_MAPLE_LEAF_PILES, BOPVegetationPlacements.YELLOW_MAPLE_LEAF_PILES,
+        BOPVegetationPlacements.RED_MAPLE_LEAF_PILES_EXTRA, BOPVegetationPlacements.ORANGE_MAPLE_LEAF_PILES_EXTRA, BOPVegetationPlacements.YELLOW_MAPLE_LEAF_PILES_EXTRA
+    );
+
+    // Chunks are decorated on worldgen worker threads, one chunk at a time per thread
+    private static final ThreadLocal<ChunkDecoration> CURRENT_CHUNK = new ThreadLocal<>();
+    private static final Map<ResourceLocation, LongAdder> THINNED_COUNTS = new ConcurrentHashMap<>();
+    private static final LongAdder CHUNKS_OVER_BUDGET = new LongAdder();
+
+    public static boolean isCosmetic(ResourceKey<PlacedFeature> key)
+    {
+        return COSMETIC_FEATURES.contains(key);
+    }
+
+    public static void beginChunk()
+    {
+        if (!ModConfig.generation.decorationBudgetEnabled)
+            return;
+
+        ChunkDecoration decoration = CURRENT_CHUNK.get();
+
+        if (decoration == null)
+        {
+            decoration = new ChunkDecoration();
+            CURRENT_CHUNK.set(decoration);
+        }
+
+        decoration.startTime = System.nanoTime();
+        decoration.overBudget = false;
+        decoration.active = true;
+    }
+
+    public static void endChunk()
+    {
+        ChunkDecoration decoration = CURRENT_CHUNK.get();
+
+        if (decoration != null)
+        {
+            decoration.active = false;
+        }
+    }
+
+    /**
+     * Returns true if the given feature should be skipped in the chunk currently being decorated on this thread.
+     */
+    public static boolean shouldThin(WorldGenLevel level, PlacedFeature feature, BlockPos origin)
+    {
+        ChunkDecoration decoration = CURRENT_CHUNK.get();
+
+        if (decoration == null || !decoration.active)
+            return false;
+
+        if (!decoration.overBudget)
+        {
+            if (System.nanoTime() - decoration.startTime < ModConfig.generation.decorationBudgetMillis * 1000000L)
+                return false;
+
+            decoration.overBudget = true;
+            CHUNKS_OVER_BUDGET.increment();
+        }
+
+        // Only look up the key once over budget, so chunks within budget pay nothing beyond the time check
+        ResourceKey<PlacedFeature> key = level.registryAccess().lookupOrThrow(Registries.PLACED_FEATURE).getResourceKey(feature).orElse(null);
+
+        if (key == null || !isCosmetic(key))
+            return false;
+
+        long hash = Mth.murmurHash3Mixer(origin.asLong() ^ key.location().hashCode());
+
+        if ((hash & 0xFFFF) * 100 >= ModConfig.generation.decorationBudgetThinningPercent * 65536L)
+            return false;
+
+        THINNED_COUNTS.computeIfAbsent(key.location(), location -> new LongAdder()).increment();
+        return true;
+    }
+
+    public static long getChunksOverBudget()
+    {
+        return CHUNKS_OVER_BUDGET.sum();
+    }
+
+    /**
+     * Returns how often each cosmetic feature has been thinned since the game started, most thinned first.
+     */
+    public static Map<ResourceLocation, Long> getThinnedCounts()
+    {
+        Map<ResourceLocation, Long> counts = new LinkedHashMap<>();
+        THINNED_COUNTS.entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<ResourceLocation, LongAdder> entry) -> entry.getValue().sum()).reversed())
+            .forEach(entry -> counts.put(entry.getKey(), entry.getValue().sum()));
+        return counts;
+    }
+
+    private static class ChunkDecoration
+    {
+        private long startTime;
+        private boolean overBudget;
+        private boolean active;
+    }
+}
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.util.worldgen;
+
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Checks whether a box of blocks can be replaced by a feature. Rather than reading every block, sections containing
+ * only air are skipped outright, then columns whose surface lies below the box, and only the remaining blocks are read,
+ * once each, directly from their chunk section.
+ *
+ * The replaceable predicate must accept air for sections and columns to be skipped. Failed checks are counted per probe
+ * name and reported by /bop volumeprobe.
+ */
+public class VolumeProbe
+{
+    // Probes are checked on worldgen worker threads, where the vanilla profiler isn't active
+    private static final Map<String, FailureCounts> FAILURE_COUNTS = new ConcurrentHashMap<>();
+
+    private final Predicate<BlockState> replaceable;
+    private final int ceiling;
+    private final FailureCounts failures;
+
+    /**
+     * @param name the name to report failed checks under
+     * @param ceiling the height at or above which boxes are always rejected
+     * @param replaceable whether a block inside the box may be replaced
+     */
+    public VolumeProbe(String name, int ceiling, Predicate<BlockState> replaceable)
+    {
+        this.replaceable = replaceable;
+        this.ceiling = ceiling;
+        this.failures = FAILURE_COUNTS.computeIfAbsent(name, key -> new FailureCounts());
+
+        if (!replaceable.test(Blocks.AIR.defaultBlockState()))
+            throw new IllegalArgumentException("Volume probe " + name + " must be able to replace air");
+    }
+
+    /**
+     * Returns true if every block between the given corners (inclusive) is replaceable.
+     */
+    public boolean isClear(WorldGenLevel level, int minX, int minY, int minZ, int maxX, int maxY, int maxZ)
+    {
+        if (maxY >= this.ceiling)
+        {
+            this.failures.outOfBounds.increment();
+            return false;
+        }
+
+        // Blocks outside the build height read as void air, which is always replaceable
+        minY = Math.max(minY, level.getMinY());
+        maxY = Math.min(maxY, level.getMaxY());
+
+        for (int chunkX = SectionPos.blockToSectionCoord(minX); chunkX <= SectionPos.blockToSectionCoord(maxX); chunkX++)
+        {
+            for (int chunkZ = SectionPos.blockToSectionCoord(minZ); chunkZ <= SectionPos.blockToSectionCoord(maxZ); chunkZ++)
+            {
+                if (!this.isClear(level.getChunk(chunkX, chunkZ), Math.max(minX, SectionPos.sectionToBlockCoord(chunkX)), minY, Math.max(minZ, SectionPos.sectionToBlockCoord(chunkZ)), Math.min(maxX, SectionPos.sectionToBlockCoord(chunkX, 15)), maxY, Math.min(maxZ, SectionPos.sectionToBlockCoord(chunkZ, 15))))
+                {
+                    this.failures.blocked.increment();
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isClear(ChunkAccess chunk, int minX, int minY, int minZ, int maxX, int maxY, int maxZ)
+    {
+        // Neighbouring chunks may not have reached the features step yet, in which case only the worldgen surface is kept up to date
+        Heightmap.Types surface = chunk.getPersistedStatus().heightmapsAfter().contains(Heightmap.Types.WORLD_SURFACE) ? Heightmap.Types.WORLD_SURFACE : Heightmap.Types.WORLD_SURFACE_WG;
+
+        for (int sectionY = SectionPos.blockToSectionCoord(minY); sectionY <= SectionPos.blockToSectionCoord(maxY); sectionY++)
+        {
+            LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+
+            if (section.hasOnlyAir())
+                continue;
+
+            int sectionMinY = Math.max(minY, SectionPos.sectionToBlockCoord(sectionY));
+            int sectionMaxY = Math.min(maxY, SectionPos.sectionToBlockCoord(sectionY, 15));
+
+            for (int x = minX; x <= maxX; x++)
+            {
+                for (int z = minZ; z <= maxZ; z++)
+                {
+                    // Everything at or above the surface height is air
+                    int columnMaxY = Math.min(sectionMaxY, chunk.getHeight(surface, x, z));
+
+                    for (int y = sectionMinY; y <= columnMaxY; y++)
+                    {
+                        if (!this.replaceable.test(section.getBlockState(x & 15, y & 15, z & 15)))
+                            return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns how many checks each probe has failed since the game started, as out of bounds and blocked counts, by name.
+     */
+    public static Map<String, long[]> getFailureCounts()
+    {
+        Map<String, long[]> counts = new TreeMap<>();
+        FAILURE_COUNTS.forEach((name, failures) -> counts.put(name, new long[] { failures.outOfBounds.sum(), failures.blocked.sum() }));
+        return counts;
+    }
+
+    private static class FailureCounts
+    {
+        private final LongAdder outOfBounds = new LongAdder();
+        private final LongAdder blocked = new LongAdder();
+    }
+}
@@ -49,21 +49,37 @@ public class BarnacleFeature extends Feature<NoneFeatureConfiguration>
                     {
                         BlockPos blockpos = new BlockPos(k, k1, l);
                         BlockState blockstate = worldIn.getBlockState(blockpos);
+
+                        // Only air is replaced, so skip probing the neighbours of anything else
+                        if (!blockstate.isAir())
+                        {
+                            // Draw once per face as the full check does, keeping placement identical for existing seeds
+                            for (int d = 0; d < 6; ++d)
+                            {
+                                rand.nextInt(4);
+                            }
+
+                            continue;
+                        }
+
                         BlockState barnaclestate = BOPBlocks.BARNACLES.defaultBlockState();
 
                         int faces = 0;
 
                         for (Direction direction : Direction.values())
                         {
+                            if (rand.nextInt(4) != 0)
+                                continue;
+
                             BlockState blockstate1 = worldIn.getBlockState(blockpos.relative(direction));
-                            if (rand.nextInt(4) == 0 && (blockstate1 == Blocks.END_STONE.defaultBlockState() || blockstate1 == BOPBlocks.UNMAPPED_END_STONE.defaultBlockState() || blockstate1 == BOPBlocks.NULL_END_STONE.defaultBlockState() || blockstate1 == BOPBlocks.ALGAL_END_STONE.defaultBlockState() || blockstate1 == BOPBlocks.WHITE_SAND.defaultBlockState() || blockstate1 == BOPBlocks.WHITE_SANDSTONE.defaultBlockState() || blockstate1.is(ModTags.Blocks.DEAD_CORAL_BLOCKS)))
+                            if ((blockstate1 == Blocks.END_STONE.defaultBlockState() || blockstate1 == BOPBlocks.UNMAPPED_END_STONE.defaultBlockState() || blockstate1 == BOPBlocks.NULL_END_STONE.defaultBlockState() || blockstate1 == BOPBlocks.ALGAL_END_STONE.defaultBlockState() || blockstate1 == BOPBlocks.WHITE_SAND.defaultBlockState() || blockstate1 == BOPBlocks.WHITE_SANDSTONE.defaultBlockState() || blockstate1.is(ModTags.Blocks.DEAD_CORAL_BLOCKS)))
                             {
                                 barnaclestate = barnaclestate.setValue(MultifaceBlock.getFaceProperty(direction), true);
                                 faces++;
                             }
                         }
 
-                        if (blockstate.isAir() && faces > 0)
+                        if (faces > 0)
                         {
                             worldIn.setBlock(blockpos, barnaclestate, 2);
 
@@ -9,21 +9,16 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.LevelAccessor;
-import net.minecraft.world.level.LevelSimulatedReader;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.PointedDripstoneBlock;
-import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.DripstoneThickness;
-import net.minecraft.world.level.chunk.ChunkGenerator;
-import net.minecraft.world.level.levelgen.feature.Feature;
-import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConfiguration;
 
 import java.util.function.Consumer;
 
-public class DripstoneSplatterFeature extends Feature<NoneFeatureConfiguration>
+public class DripstoneSplatterFeature extends SplatterFeature
 {
    public DripstoneSplatterFeature(Codec<NoneFeatureConfiguration> deserializer)
    {
@@ -31,47 +26,20 @@ public class DripstoneSplatterFeature extends Feature<NoneFeatureConfiguration>
    }
 
    @Override
-   public boolean place(FeaturePlaceContext<NoneFeatureConfiguration> featurePlaceContext)
+   protected boolean canSplatter(WorldGenLevel worldIn, BlockPos pos, BlockState state)
    {
-      WorldGenLevel worldIn = featurePlaceContext.level();
-      ChunkGenerator chunkGenerator = featurePlaceContext.chunkGenerator();
-      RandomSource rand = featurePlaceContext.random();
-      BlockPos pos = featurePlaceContext.origin();
-      NoneFeatureConfiguration config = featurePlaceContext.config();
-      int i = 0;
-      int j = rand.nextInt(8 - 2) + 2;
+      return state.getBlock() == Blocks.GRASS_BLOCK && isAir(worldIn, pos.above());
+   }
 
-      for (int k = pos.getX() - j; k <= pos.getX() + j; ++k)
+   @Override
+   protected void splatter(WorldGenLevel worldIn, BlockPos pos, RandomSource rand)
+   {
+      worldIn.setBlock(pos, Blocks.DRIPSTONE_BLOCK.defaultBlockState(), 2);
+      if (rand.nextInt(5) == 0)
       {
-         for (int l = pos.getZ() - j; l <= pos.getZ() + j; ++l)
-         {
-            int i1 = k - pos.getX();
-            int j1 = l - pos.getZ();
-            if (i1 * i1 + j1 * j1 <= j * j)
-            {
-               for (int k1 = pos.getY() - 2; k1 <= pos.getY() + 2; ++k1)
-               {
-                  BlockPos blockpos = new BlockPos(k, k1, l);
-                  BlockState blockstate = worldIn.getBlockState(blockpos);
-
-                  if (blockstate.getBlock() == Blocks.GRASS_BLOCK && this.isAir(worldIn, blockpos.above()))
-                  {
-                     worldIn.setBlock(blockpos, Blocks.DRIPSTONE_BLOCK.defaultBlockState(), 2);
-                     if (rand.nextInt(5) == 0)
-                     {
-                        int height = 1 + rand.nextInt(8);
-                        growPointedDripstone(worldIn, blockpos.above(), Direction.UP, height, false);
-                     }
-
-                     ++i;
-                     break;
-                  }
-               }
-            }
-         }
+         int height = 1 + rand.nextInt(8);
+         growPointedDripstone(worldIn, pos.above(), Direction.UP, height, false);
       }
-
-      return i > 0;
    }
 
    protected static void growPointedDripstone(LevelAccessor p_190848_, BlockPos p_190849_, Direction p_190850_, int p_190851_, boolean p_190852_)
@@ -115,9 +83,4 @@ public class DripstoneSplatterFeature extends Feature<NoneFeatureConfiguration>
    {
       return Blocks.POINTED_DRIPSTONE.defaultBlockState().setValue(PointedDripstoneBlock.TIP_DIRECTION, p_159657_).setValue(PointedDripstoneBlock.THICKNESS, p_159658_);
    }
-
-   public static boolean isAir(LevelSimulatedReader level, BlockPos pos)
-   {
-      return level.isStateAtPosition(pos, BlockBehaviour.BlockStateBase::isAir);
-   }
 }
\ No newline at end of file
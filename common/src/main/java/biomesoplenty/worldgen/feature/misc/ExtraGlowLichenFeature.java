@@ -47,6 +47,13 @@ public class ExtraGlowLichenFeature extends Feature<NoneFeatureConfiguration>
                     {
                         BlockPos blockpos = new BlockPos(k, k1, l);
                         BlockState blockstate = worldIn.getBlockState(blockpos);
+
+                        // Only air is replaced, so skip probing the neighbours of anything else
+                        if (!blockstate.isAir())
+                        {
+                            continue;
+                        }
+
                         BlockState lichenstate = Blocks.GLOW_LICHEN.defaultBlockState();
 
                         int faces = 0;
@@ -61,7 +68,7 @@ public class ExtraGlowLichenFeature extends Feature<NoneFeatureConfiguration>
                             }
                         }
 
-                        if (blockstate.isAir() && faces > 0)
+                        if (faces > 0)
                         {
                             worldIn.setBlock(blockpos, lichenstate, 2);
 
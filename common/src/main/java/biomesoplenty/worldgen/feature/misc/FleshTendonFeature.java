@@ -7,11 +7,13 @@ package biomesoplenty.worldgen.feature.misc;
 import biomesoplenty.api.block.BOPBlocks;
 import biomesoplenty.util.SimpleBlockPredicate;
 import biomesoplenty.init.ModTags;
+import com.google.common.collect.ImmutableSet;
 import com.mojang.serialization.Codec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.SectionPos;
 import net.minecraft.server.level.WorldGenRegion;
+import net.minecraft.tags.BlockTags;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.ChunkPos;
@@ -21,13 +23,18 @@ import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
-import net.minecraft.world.level.levelgen.feature.TreeFeature;
 import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConfiguration;
-import net.minecraft.world.phys.Vec3;
+
+import java.util.Set;
 
 public class FleshTendonFeature extends Feature<NoneFeatureConfiguration>
 {
-    protected SimpleBlockPredicate replace = (world, pos) -> TreeFeature.isAirOrLeaves(world, pos) || world.getBlockState(pos).getBlock() == BOPBlocks.ROSE_QUARTZ_CLUSTER || world.getBlockState(pos).getBlock() == BOPBlocks.LARGE_ROSE_QUARTZ_BUD || world.getBlockState(pos).getBlock() == BOPBlocks.MEDIUM_ROSE_QUARTZ_BUD || world.getBlockState(pos).getBlock() == BOPBlocks.SMALL_ROSE_QUARTZ_BUD || world.getBlockState(pos).getBlock() == BOPBlocks.FLESH_TENDONS_STRAND || world.getBlockState(pos).getBlock() == BOPBlocks.FLESH_TENDONS || world.getBlockState(pos).getBlock() == BOPBlocks.PUS_BUBBLE || world.getBlockState(pos).getBlock() == BOPBlocks.HAIR || world.getBlockState(pos).getBlock() == BOPBlocks.EYEBULB || world.getBlockState(pos).getBlock() == BOPBlocks.BLOOD || world.getBlockState(pos).getBlock() == Blocks.LAVA;
+    protected Set<Block> replaceableBlocks = ImmutableSet.of(BOPBlocks.ROSE_QUARTZ_CLUSTER, BOPBlocks.LARGE_ROSE_QUARTZ_BUD, BOPBlocks.MEDIUM_ROSE_QUARTZ_BUD, BOPBlocks.SMALL_ROSE_QUARTZ_BUD, BOPBlocks.FLESH_TENDONS_STRAND, BOPBlocks.FLESH_TENDONS, BOPBlocks.PUS_BUBBLE, BOPBlocks.HAIR, BOPBlocks.EYEBULB, BOPBlocks.BLOOD, Blocks.LAVA);
+    protected SimpleBlockPredicate replace = (world, pos) ->
+    {
+        BlockState state = world.getBlockState(pos);
+        return state.isAir() || state.is(BlockTags.LEAVES) || this.replaceableBlocks.contains(state.getBlock());
+    };
 
     private static final int MIN_DISTANCE = 8;
     private static final int MAX_DISTANCE = 32;
@@ -39,11 +46,13 @@ public class FleshTendonFeature extends Feature<NoneFeatureConfiguration>
         super(deserializer);
     }
 
-    private static BlockPos quadratic(float t, BlockPos v0, BlockPos v1, BlockPos v2)
+    private static void quadratic(BlockPos.MutableBlockPos out, float t, BlockPos v0, BlockPos v1, BlockPos v2)
     {
         float dt = 1f - t;
-        Vec3 v = new Vec3(v0.getX(), v0.getY(), v0.getZ()).scale(dt * dt).add(new Vec3(v1.getX(), v1.getY(), v1.getZ()).scale(2 * dt * t)).add(new Vec3(v2.getX(), v2.getY(), v2.getZ()).scale(t * t));
-        return BlockPos.containing(v.x, v.y, v.z);
+        double w0 = dt * dt;
+        double w1 = 2 * dt * t;
+        double w2 = t * t;
+        out.set(Mth.floor(v0.getX() * w0 + v1.getX() * w1 + v2.getX() * w2), Mth.floor(v0.getY() * w0 + v1.getY() * w1 + v2.getY() * w2), Mth.floor(v0.getZ() * w0 + v1.getZ() * w1 + v2.getZ() * w2));
     }
 
     @Override
@@ -78,10 +87,12 @@ public class FleshTendonFeature extends Feature<NoneFeatureConfiguration>
         }
 
         BlockPos midPos = endPos.offset(0, Mth.floor(-(endPos.getY() - pos.getY()) * MID_POS_MULTIPLIER), 0);
+        BlockPos.MutableBlockPos curPos = new BlockPos.MutableBlockPos();
+        long lastPos = Long.MAX_VALUE;
 
         for (float d = 0.0f; d < 1.0f; d += TENDON_STEP)
         {
-            BlockPos curPos = quadratic(d, pos, midPos, endPos);
+            quadratic(curPos, d, pos, midPos, endPos);
 
             if (curPos.getY() < maxY)
             {
@@ -91,7 +102,16 @@ public class FleshTendonFeature extends Feature<NoneFeatureConfiguration>
                     fleshBlock = BOPBlocks.POROUS_FLESH.defaultBlockState();
                 }
 
-                this.setBlock(world, curPos, fleshBlock);
+                // The curve is sampled far more finely than the block grid, so most steps land on the block from the
+                // previous step. That block is either flesh already or wasn't replaceable, so skip placing it again.
+                // Randomness is still consumed as before so the rest of the tendon is unchanged.
+                long packedPos = curPos.asLong();
+
+                if (packedPos != lastPos)
+                {
+                    this.setBlock(world, curPos, fleshBlock);
+                    lastPos = packedPos;
+                }
 
                 if (rand.nextInt(75) == 0)
                 {
@@ -8,17 +8,12 @@ import biomesoplenty.api.block.BOPBlocks;
 import com.mojang.serialization.Codec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.util.RandomSource;
-import net.minecraft.world.level.LevelSimulatedReader;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Blocks;
-import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.ChunkGenerator;
-import net.minecraft.world.level.levelgen.feature.Feature;
-import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConfiguration;
 
-public class GrassSplatterFeature extends Feature<NoneFeatureConfiguration>
+public class GrassSplatterFeature extends SplatterFeature
 {
     public GrassSplatterFeature(Codec<NoneFeatureConfiguration> deserializer)
     {
@@ -26,55 +21,22 @@ public class GrassSplatterFeature extends Feature<NoneFeatureConfiguration>
     }
 
     @Override
-    public boolean place(FeaturePlaceContext<NoneFeatureConfiguration> featurePlaceContext)
+    protected boolean canSplatter(WorldGenLevel worldIn, BlockPos pos, BlockState state)
     {
-        WorldGenLevel worldIn = featurePlaceContext.level();
-        ChunkGenerator chunkGenerator = featurePlaceContext.chunkGenerator();
-        RandomSource rand = featurePlaceContext.random();
-        BlockPos pos = featurePlaceContext.origin();
-        NoneFeatureConfiguration config = featurePlaceContext.config();
-        int i = 0;
-        int j = rand.nextInt(8 - 2) + 2;
+        return state.getBlock() == BOPBlocks.BLACK_SAND && isAir(worldIn, pos.above());
+    }
 
-        for (int k = pos.getX() - j; k <= pos.getX() + j; ++k)
+    @Override
+    protected void splatter(WorldGenLevel worldIn, BlockPos pos, RandomSource rand)
+    {
+        if (rand.nextInt(2) > 0)
         {
-            for (int l = pos.getZ() - j; l <= pos.getZ() + j; ++l)
-            {
-                int i1 = k - pos.getX();
-                int j1 = l - pos.getZ();
-                if (i1 * i1 + j1 * j1 <= j * j)
-                {
-                    for (int k1 = pos.getY() - 2; k1 <= pos.getY() + 2; ++k1)
-                    {
-                        BlockPos blockpos = new BlockPos(k, k1, l);
-                        BlockState blockstate = worldIn.getBlockState(blockpos);
-                        BlockState blockstate1 = worldIn.getBlockState(blockpos.above());
-
-                        if (blockstate.getBlock() == BOPBlocks.BLACK_SAND && this.isAir(worldIn, blockpos.above()))
-                        {
-                            if (rand.nextInt(2) > 0)
-                            {
-                                worldIn.setBlock(blockpos, BOPBlocks.MOSSY_BLACK_SAND.defaultBlockState(), 2);
-
-                                if (rand.nextInt(3) == 0)
-                                {
-                                    worldIn.setBlock(blockpos.above(), Blocks.FERN.defaultBlockState(), 2);
-                                }
-                            }
+            worldIn.setBlock(pos, BOPBlocks.MOSSY_BLACK_SAND.defaultBlockState(), 2);
 
-                            ++i;
-                            break;
-                        }
-                    }
-                }
+            if (rand.nextInt(3) == 0)
+            {
+                worldIn.setBlock(pos.above(), Blocks.FERN.defaultBlockState(), 2);
             }
         }
-
-        return i > 0;
-    }
-
-    public static boolean isAir(LevelSimulatedReader level, BlockPos pos)
-    {
-        return level.isStateAtPosition(pos, BlockBehaviour.BlockStateBase::isAir);
     }
 }
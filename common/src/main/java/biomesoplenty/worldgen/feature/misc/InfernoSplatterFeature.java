@@ -10,55 +10,31 @@ import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.ChunkGenerator;
-import net.minecraft.world.level.levelgen.feature.Feature;
-import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.feature.TreeFeature;
 import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConfiguration;
 
-public class InfernoSplatterFeature extends Feature<NoneFeatureConfiguration>
+public class InfernoSplatterFeature extends SplatterFeature
 {
     public InfernoSplatterFeature(Codec<NoneFeatureConfiguration> deserializer)
     {
-        super(deserializer);
+        super(deserializer, 3);
     }
 
     @Override
-    public boolean place(FeaturePlaceContext<NoneFeatureConfiguration> featurePlaceContext)
+    protected int getRadius(RandomSource rand)
     {
-        WorldGenLevel worldIn = featurePlaceContext.level();
-        ChunkGenerator chunkGenerator = featurePlaceContext.chunkGenerator();
-        RandomSource rand = featurePlaceContext.random();
-        BlockPos pos = featurePlaceContext.origin();
-        NoneFeatureConfiguration config = featurePlaceContext.config();
-        int i = 0;
-        int j = rand.nextInt(4) + 2;
-
-        for (int k = pos.getX() - j; k <= pos.getX() + j; ++k)
-        {
-            for (int l = pos.getZ() - j; l <= pos.getZ() + j; ++l)
-            {
-                int i1 = k - pos.getX();
-                int j1 = l - pos.getZ();
-                if (i1 * i1 + j1 * j1 <= j * j)
-                {
-                    for (int k1 = pos.getY() - 3; k1 <= pos.getY() + 3; ++k1)
-                    {
-                        BlockPos blockpos = new BlockPos(k, k1, l);
-                        BlockState blockstate = worldIn.getBlockState(blockpos);
-
-                        if (blockstate.getBlock() == Blocks.NETHERRACK && TreeFeature.isAirOrLeaves(worldIn, blockpos.above()))
-                        {
-                            worldIn.setBlock(blockpos, Blocks.MAGMA_BLOCK.defaultBlockState(), 2);
+        return rand.nextInt(4) + 2;
+    }
 
-                            ++i;
-                            break;
-                        }
-                    }
-                }
-            }
-        }
+    @Override
+    protected boolean canSplatter(WorldGenLevel worldIn, BlockPos pos, BlockState state)
+    {
+        return state.getBlock() == Blocks.NETHERRACK && TreeFeature.isAirOrLeaves(worldIn, pos.above());
+    }
 
-        return i > 0;
+    @Override
+    protected void splatter(WorldGenLevel worldIn, BlockPos pos, RandomSource rand)
+    {
+        worldIn.setBlock(pos, Blocks.MAGMA_BLOCK.defaultBlockState(), 2);
     }
-}
\ No newline at end of file
+}
@@ -25,6 +25,7 @@ import net.minecraft.world.level.levelgen.feature.configurations.LargeDripstoneC
 import net.minecraft.world.phys.Vec3;
 
 import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.Optional;
 
 public class LargeRoseQuartzFeature extends Feature<LargeDripstoneConfiguration>
@@ -104,6 +105,8 @@ public class LargeRoseQuartzFeature extends Feature<LargeDripstoneConfiguration>
         private int radius;
         private final double bluntness;
         private final double scale;
+        // Heights only depend on the squared distance from the centre, so they are worked out once per distance
+        private int[] heightsBySquaredDistance = new int[0];
 
         LargeRoseQuartz(BlockPos p_159981_, boolean p_159982_, int p_159983_, double p_159984_, double p_159985_)
         {
@@ -115,7 +118,7 @@ public class LargeRoseQuartzFeature extends Feature<LargeDripstoneConfiguration>
         }
 
         private int getHeight() {
-            return this.getHeightAtRadius(0.0F);
+            return this.getHeightAtSquaredDistance(0);
         }
 
         private int getMinY() {
@@ -155,6 +158,29 @@ public class LargeRoseQuartzFeature extends Feature<LargeDripstoneConfiguration>
             return false;
         }
 
+        private int getHeightAtSquaredDistance(int distanceSqr)
+        {
+            int tableSize = this.radius * this.radius + 1;
+
+            // The radius may have shrunk since the table was filled
+            if (this.heightsBySquaredDistance.length != tableSize)
+            {
+                this.heightsBySquaredDistance = new int[tableSize];
+                Arrays.fill(this.heightsBySquaredDistance, -1);
+            }
+
+            int height = this.heightsBySquaredDistance[distanceSqr];
+
+            // Heights are never negative, so -1 marks distances that haven't been worked out yet
+            if (height < 0)
+            {
+                height = this.getHeightAtRadius(Mth.sqrt((float)distanceSqr));
+                this.heightsBySquaredDistance[distanceSqr] = height;
+            }
+
+            return height;
+        }
+
         private int getHeightAtRadius(float p_159988_)
         {
             return (int) RoseQuartzUtils.getRoseQuartzHeight((double)p_159988_, (double)this.radius, this.scale, this.bluntness);
@@ -162,6 +188,9 @@ public class LargeRoseQuartzFeature extends Feature<LargeDripstoneConfiguration>
 
         void placeBlocks(WorldGenLevel p_159993_, RandomSource p_159994_, LargeRoseQuartzFeature.WindOffsetter p_159995_)
         {
+            BlockPos.MutableBlockPos blockpos$mutableblockpos = new BlockPos.MutableBlockPos();
+            BlockPos.MutableBlockPos blockpos = new BlockPos.MutableBlockPos();
+
             for(int i = -this.radius; i <= this.radius; ++i)
             {
                 for(int j = -this.radius; j <= this.radius; ++j)
@@ -169,7 +198,7 @@ public class LargeRoseQuartzFeature extends Feature<LargeDripstoneConfiguration>
                     float f = Mth.sqrt((float)(i * i + j * j));
                     if (!(f > (float)this.radius))
                     {
-                        int k = this.getHeightAtRadius(f);
+                        int k = this.getHeightAtSquaredDistance(i * i + j * j);
                         if (k > 0)
                         {
                             if ((double)p_159994_.nextFloat() < 0.2D)
@@ -177,13 +206,14 @@ public class LargeRoseQuartzFeature extends Feature<LargeDripstoneConfiguration>
                                 k = (int)((float)k * Mth.randomBetween(p_159994_, 0.8F, 1.0F));
                             }
 
-                            BlockPos.MutableBlockPos blockpos$mutableblockpos = this.root.offset(i, 0, j).mutable();
+                            blockpos$mutableblockpos.setWithOffset(this.root, i, 0, j);
                             boolean flag = false;
 
                             for(int l = 0; l < k; ++l)
                             {
-                                BlockPos blockpos = p_159995_.offset(blockpos$mutableblockpos);
-                                if (RoseQuartzUtils.isEmptyOrWaterOrLava(p_159993_, blockpos) || p_159993_.getBlockState(blockpos).is(BlockTags.CRYSTAL_SOUND_BLOCKS) || p_159993_.getBlockState(blockpos).getBlock() instanceof AmethystClusterBlock)
+                                p_159995_.offset(blockpos$mutableblockpos, blockpos);
+                                BlockState blockstate = p_159993_.getBlockState(blockpos);
+                                if (RoseQuartzUtils.isEmptyOrWaterOrLava(blockstate) || blockstate.is(BlockTags.CRYSTAL_SOUND_BLOCKS) || blockstate.getBlock() instanceof AmethystClusterBlock)
                                 {
                                     flag = true;
                                     Block block = BOPBlocks.ROSE_QUARTZ_BLOCK;
@@ -222,7 +252,7 @@ public class LargeRoseQuartzFeature extends Feature<LargeDripstoneConfiguration>
                                         }
                                     }
                                 }
-                                else if (flag && p_159993_.getBlockState(blockpos).is(Blocks.NETHERRACK))
+                                else if (flag && blockstate.is(Blocks.NETHERRACK))
                                 {
                                     break;
                                 }
@@ -271,5 +301,14 @@ public class LargeRoseQuartzFeature extends Feature<LargeDripstoneConfiguration>
                 return p_160009_.offset(Mth.floor(vec3.x), 0, Mth.floor(vec3.z));
             }
         }
+
+        BlockPos.MutableBlockPos offset(BlockPos pos, BlockPos.MutableBlockPos out) {
+            if (this.windSpeed == null) {
+                return out.set(pos);
+            } else {
+                int i = this.originY - pos.getY();
+                return out.setWithOffset(pos, Mth.floor(this.windSpeed.x * (double)i), 0, Mth.floor(this.windSpeed.z * (double)i));
+            }
+        }
     }
 }
@@ -6,10 +6,12 @@ package biomesoplenty.worldgen.feature.misc;
 
 import biomesoplenty.api.block.BOPBlocks;
 import biomesoplenty.util.SimpleBlockPredicate;
+import biomesoplenty.util.worldgen.VolumeProbe;
 import com.mojang.serialization.Codec;
 import net.minecraft.core.BlockPos;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.LevelSimulatedReader;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.BushBlock;
@@ -17,13 +19,13 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkGenerator;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
-import net.minecraft.world.level.levelgen.feature.TreeFeature;
 import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConfiguration;
 
 public class MonolithFeature extends Feature<NoneFeatureConfiguration>
 {
     protected SimpleBlockPredicate placeOn = (world, pos) -> world.getBlockState(pos).getBlock() == BOPBlocks.UNMAPPED_END_STONE;
-    protected SimpleBlockPredicate replace = (world, pos) -> TreeFeature.isAirOrLeaves(world, pos) || world.getBlockState(pos).is(BlockTags.REPLACEABLE_BY_TREES) || world.getBlockState(pos).getBlock() instanceof BushBlock || world.getBlockState(pos).getBlock() == BOPBlocks.NULL_END_STONE;
+    protected SimpleBlockPredicate replace = MonolithFeature::canReplace;
+    private final VolumeProbe spaceProbe = new VolumeProbe("monolith", 255, MonolithFeature::canReplace);
 
     public MonolithFeature(Codec<NoneFeatureConfiguration> deserializer)
     {
@@ -94,20 +96,16 @@ public class MonolithFeature extends Feature<NoneFeatureConfiguration>
 
     public boolean checkSpace(WorldGenLevel world, BlockPos pos, int sizeX, int sizeZ, int height)
     {
-        for (int y = 0; y <= height; y++)
-        {
-            for (int x = 0; x <= sizeX; x++)
-            {
-                for (int z = 0; z <= sizeZ; z++)
-                {
-                    BlockPos pos1 = pos.offset(x, y, z);
-                    if (pos1.getY() >= 255 || !this.replace.matches(world, pos1))
-                    {
-                        return false;
-                    }
-                }
-            }
-        }
-        return true;
+        return this.spaceProbe.isClear(world, pos.getX(), pos.getY(), pos.getZ(), pos.getX() + sizeX, pos.getY() + height, pos.getZ() + sizeZ);
+    }
+
+    private static boolean canReplace(LevelSimulatedReader level, BlockPos pos)
+    {
+        return level.isStateAtPosition(pos, MonolithFeature::canReplace);
+    }
+
+    private static boolean canReplace(BlockState state)
+    {
+        return state.isAir() || state.is(BlockTags.LEAVES) || state.is(BlockTags.REPLACEABLE_BY_TREES) || state.getBlock() instanceof BushBlock || state.getBlock() == BOPBlocks.NULL_END_STONE;
     }
 }
@@ -10,12 +10,9 @@ import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.ChunkGenerator;
-import net.minecraft.world.level.levelgen.feature.Feature;
-import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConfiguration;
 
-public class ObsidianSplatterFeature extends Feature<NoneFeatureConfiguration>
+public class ObsidianSplatterFeature extends SplatterFeature
 {
     public ObsidianSplatterFeature(Codec<NoneFeatureConfiguration> deserializer)
     {
@@ -23,48 +20,21 @@ public class ObsidianSplatterFeature extends Feature<NoneFeatureConfiguration>
     }
 
     @Override
-    public boolean place(FeaturePlaceContext<NoneFeatureConfiguration> featurePlaceContext)
+    protected boolean canSplatter(WorldGenLevel worldIn, BlockPos pos, BlockState state)
     {
-        WorldGenLevel worldIn = featurePlaceContext.level();
-        ChunkGenerator chunkGenerator = featurePlaceContext.chunkGenerator();
-        RandomSource rand = featurePlaceContext.random();
-        BlockPos pos = featurePlaceContext.origin();
-        NoneFeatureConfiguration config = featurePlaceContext.config();
-        int i = 0;
-        int j = rand.nextInt(8 - 2) + 2;
+        return state.getBlock() == Blocks.BLACKSTONE;
+    }
 
-        for (int k = pos.getX() - j; k <= pos.getX() + j; ++k)
+    @Override
+    protected void splatter(WorldGenLevel worldIn, BlockPos pos, RandomSource rand)
+    {
+        if (rand.nextInt(2) == 0)
         {
-            for (int l = pos.getZ() - j; l <= pos.getZ() + j; ++l)
-            {
-                int i1 = k - pos.getX();
-                int j1 = l - pos.getZ();
-                if (i1 * i1 + j1 * j1 <= j * j)
-                {
-                    for (int k1 = pos.getY() - 2; k1 <= pos.getY() + 2; ++k1)
-                    {
-                        BlockPos blockpos = new BlockPos(k, k1, l);
-                        BlockState blockstate = worldIn.getBlockState(blockpos);
-
-                        if (blockstate.getBlock() == Blocks.BLACKSTONE)
-                        {
-                            if (rand.nextInt(2) == 0)
-                            {
-                                worldIn.setBlock(blockpos, Blocks.OBSIDIAN.defaultBlockState(), 2);
-                            }
-                            if (rand.nextInt(15) == 0)
-                            {
-                                worldIn.setBlock(blockpos, Blocks.CRYING_OBSIDIAN.defaultBlockState(), 2);
-                            }
-
-                            ++i;
-                            break;
-                        }
-                    }
-                }
-            }
+            worldIn.setBlock(pos, Blocks.OBSIDIAN.defaultBlockState(), 2);
+        }
+        if (rand.nextInt(15) == 0)
+        {
+            worldIn.setBlock(pos, Blocks.CRYING_OBSIDIAN.defaultBlockState(), 2);
         }
-
-        return i > 0;
     }
 }
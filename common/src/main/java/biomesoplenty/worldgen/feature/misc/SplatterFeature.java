@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.worldgen.feature.misc;
+
+import com.mojang.serialization.Codec;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.LevelSimulatedReader;
+import net.minecraft.world.level.WorldGenLevel;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.feature.Feature;
+import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
+import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConfiguration;
+
+/**
+ * Shared placement loop for the splatter features. A disc of columns is scanned around the origin and the first
+ * matching block in each column, searching upwards, is replaced.
+ *
+ * Subclasses only decide what matches and what it becomes. The random draws happen in the same order as in the
+ * original per-feature loops, so existing seeds generate the same terrain.
+ */
+public abstract class SplatterFeature extends Feature<NoneFeatureConfiguration>
+{
+    private final int verticalRange;
+
+    protected SplatterFeature(Codec<NoneFeatureConfiguration> deserializer)
+    {
+        this(deserializer, 2);
+    }
+
+    protected SplatterFeature(Codec<NoneFeatureConfiguration> deserializer, int verticalRange)
+    {
+        super(deserializer);
+        this.verticalRange = verticalRange;
+    }
+
+    @Override
+    public boolean place(FeaturePlaceContext<NoneFeatureConfiguration> featurePlaceContext)
+    {
+        WorldGenLevel worldIn = featurePlaceContext.level();
+        RandomSource rand = featurePlaceContext.random();
+        BlockPos pos = featurePlaceContext.origin();
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        int placed = 0;
+        int radius = this.getRadius(rand);
+        int minY = pos.getY() - this.verticalRange;
+        int maxY = pos.getY() + this.verticalRange;
+
+        for (int x = pos.getX() - radius; x <= pos.getX() + radius; ++x)
+        {
+            int dx = x - pos.getX();
+
+            for (int z = pos.getZ() - radius; z <= pos.getZ() + radius; ++z)
+            {
+                int dz = z - pos.getZ();
+
+                if (dx * dx + dz * dz > radius * radius)
+                    continue;
+
+                for (int y = minY; y <= maxY; ++y)
+                {
+                    mutable.set(x, y, z);
+
+                    if (this.canSplatter(worldIn, mutable, worldIn.getBlockState(mutable)))
+                    {
+                        this.splatter(worldIn, mutable.immutable(), rand);
+                        ++placed;
+                        break;
+                    }
+                }
+            }
+        }
+
+        return placed > 0;
+    }
+
+    protected int getRadius(RandomSource rand)
+    {
+        return rand.nextInt(8 - 2) + 2;
+    }
+
+    /**
+     * Whether the block at the given position should be replaced. This must not draw from the random source.
+     */
+    protected abstract boolean canSplatter(WorldGenLevel worldIn, BlockPos pos, BlockState state);
+
+    protected abstract void splatter(WorldGenLevel worldIn, BlockPos pos, RandomSource rand);
+
+    public static boolean isAir(LevelSimulatedReader level, BlockPos pos)
+    {
+        return level.isStateAtPosition(pos, BlockBehaviour.BlockStateBase::isAir);
+    }
+}
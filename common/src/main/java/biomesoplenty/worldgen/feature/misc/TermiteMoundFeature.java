@@ -5,8 +5,10 @@
 package biomesoplenty.worldgen.feature.misc;
 
 import biomesoplenty.util.SimpleBlockPredicate;
+import biomesoplenty.util.worldgen.VolumeProbe;
 import com.mojang.serialization.Codec;
 import net.minecraft.core.BlockPos;
+import net.minecraft.tags.BlockTags;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.LevelSimulatedReader;
 import net.minecraft.world.level.WorldGenLevel;
@@ -17,13 +19,13 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkGenerator;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
-import net.minecraft.world.level.levelgen.feature.TreeFeature;
 import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConfiguration;
 
 public class TermiteMoundFeature extends Feature<NoneFeatureConfiguration>
 {
     protected SimpleBlockPredicate placeOn = (world, pos) -> world.getBlockState(pos).getBlock() == Blocks.GRASS_BLOCK;
-    protected SimpleBlockPredicate replace = (world, pos) -> TreeFeature.isAirOrLeaves(world, pos) || world.getBlockState(pos).getBlock() instanceof BushBlock;
+    protected SimpleBlockPredicate replace = (world, pos) -> canReplace(world.getBlockState(pos));
+    private final VolumeProbe spaceProbe = new VolumeProbe("termite_mound", 255, TermiteMoundFeature::canReplace);
 
     public TermiteMoundFeature(Codec<NoneFeatureConfiguration> deserializer)
     {
@@ -152,21 +154,12 @@ public class TermiteMoundFeature extends Feature<NoneFeatureConfiguration>
 
     public boolean checkSpace(WorldGenLevel world, BlockPos pos)
     {
-        for (int y = 0; y <= 6; y++)
-        {
-            for (int x = -1; x <= 1; x++)
-            {
-                for (int z = -1; z <= 1; z++)
-                {
-                    BlockPos pos1 = pos.offset(x, y, z);
-                    if (pos1.getY() >= 255 || !this.replace.matches(world, pos1))
-                    {
-                        return false;
-                    }
-                }
-            }
-        }
-        return true;
+        return this.spaceProbe.isClear(world, pos.getX() - 1, pos.getY(), pos.getZ() - 1, pos.getX() + 1, pos.getY() + 6, pos.getZ() + 1);
+    }
+
+    private static boolean canReplace(BlockState state)
+    {
+        return state.isAir() || state.is(BlockTags.LEAVES) || state.getBlock() instanceof BushBlock;
     }
 
     public static boolean isAir(LevelSimulatedReader p_65811_, BlockPos p_65812_) {
@@ -48,6 +48,13 @@ public class WebbingFeature extends Feature<NoneFeatureConfiguration>
                     {
                         BlockPos blockpos = new BlockPos(k, k1, l);
                         BlockState blockstate = worldIn.getBlockState(blockpos);
+
+                        // Only air is replaced, so skip probing the neighbours of anything else
+                        if (!blockstate.isAir())
+                        {
+                            continue;
+                        }
+
                         BlockState webbingstate = BOPBlocks.WEBBING.defaultBlockState();
 
                         int faces = 0;
@@ -62,7 +69,7 @@ public class WebbingFeature extends Feature<NoneFeatureConfiguration>
                             }
                         }
 
-                        if (blockstate.isAir() && faces > 0)
+                        if (faces > 0)
                         {
                             worldIn.setBlock(blockpos, webbingstate, 2);
 
@@ -7,23 +7,26 @@ package biomesoplenty.worldgen.feature.misc;
 import biomesoplenty.api.block.BOPBlocks;
 import biomesoplenty.init.ModTags;
 import biomesoplenty.util.SimpleBlockPredicate;
+import biomesoplenty.util.worldgen.VolumeProbe;
 import com.mojang.serialization.Codec;
 import net.minecraft.core.BlockPos;
+import net.minecraft.tags.BlockTags;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.LevelSimulatedReader;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.BushBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkGenerator;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
-import net.minecraft.world.level.levelgen.feature.TreeFeature;
 import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConfiguration;
 
 public class WispjellyFeature extends Feature<NoneFeatureConfiguration>
 {
     protected SimpleBlockPredicate placeOn = (world, pos) -> world.getBlockState(pos).is(ModTags.Blocks.TIDEPOOL_REPLACEABLE);
-    protected SimpleBlockPredicate replace = (world, pos) -> TreeFeature.isAirOrLeaves(world, pos) || world.getBlockState(pos).getBlock() instanceof BushBlock || world.getBlockState(pos).is(ModTags.Blocks.DEAD_CORALS);
+    protected SimpleBlockPredicate replace = WispjellyFeature::canReplace;
+    private final VolumeProbe spaceProbe = new VolumeProbe("wispjelly", 255, WispjellyFeature::canReplace);
 
     public WispjellyFeature(Codec<NoneFeatureConfiguration> deserializer)
     {
@@ -194,20 +197,17 @@ public class WispjellyFeature extends Feature<NoneFeatureConfiguration>
 
     public boolean checkSpace(WorldGenLevel world, BlockPos pos, int height)
     {
-        for (int y = -3; y <= 3; y++)
-        {
-            for (int x = -3; x <= 3; x++)
-            {
-                for (int z = -3; z <= 3; z++)
-                {
-                    BlockPos pos1 = pos.offset(x, y + height, z);
-                    if (pos1.getY() >= 255 || !this.replace.matches(world, pos1))
-                    {
-                        return false;
-                    }
-                }
-            }
-        }
-        return true;
+        int centerY = pos.getY() + height;
+        return this.spaceProbe.isClear(world, pos.getX() - 3, centerY - 3, pos.getZ() - 3, pos.getX() + 3, centerY + 3, pos.getZ() + 3);
+    }
+
+    private static boolean canReplace(LevelSimulatedReader level, BlockPos pos)
+    {
+        return level.isStateAtPosition(pos, WispjellyFeature::canReplace);
+    }
+
+    private static boolean canReplace(BlockState state)
+    {
+        return state.isAir() || state.is(BlockTags.LEAVES) || state.getBlock() instanceof BushBlock || state.is(ModTags.Blocks.DEAD_CORALS);
     }
 }
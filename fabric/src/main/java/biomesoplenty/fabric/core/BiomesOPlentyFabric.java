@@ -7,7 +7,11 @@ package biomesoplenty.fabric.core;
 import biomesoplenty.core.BiomesOPlenty;
 import biomesoplenty.fabric.init.ModClientFabric;
 import biomesoplenty.init.ModClient;
+import biomesoplenty.util.benchmark.StartupProfiler;
+import biomesoplenty.util.benchmark.WorldgenBenchmark;
 import glitchcore.fabric.GlitchCoreInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import terrablender.api.TerraBlenderApi;
 
 public class BiomesOPlentyFabric implements GlitchCoreInitializer, TerraBlenderApi
@@ -16,6 +20,12 @@ public class BiomesOPlentyFabric implements GlitchCoreInitializer, TerraBlenderA
     public void onInitialize()
     {
         BiomesOPlenty.init();
+        ServerLifecycleEvents.SERVER_STARTING.register(server -> StartupProfiler.finish());
+
+        if (WorldgenBenchmark.isEnabled())
+        {
+            ServerLifecycleEvents.SERVER_STARTED.register(server -> WorldgenBenchmark.start(server, "fabric"));
+        }
     }
 
     @Override
@@ -23,6 +33,7 @@ public class BiomesOPlentyFabric implements GlitchCoreInitializer, TerraBlenderA
     {
         ModClient.setup();
         ModClientFabric.setup();
+        ClientLifecycleEvents.CLIENT_STARTED.register(client -> StartupProfiler.finish());
     }
 
     @Override
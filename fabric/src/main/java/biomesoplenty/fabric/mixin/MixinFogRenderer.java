@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright 2024, the Glitchfiend Team.
+ * All rights reserved.
+ ******************************************************************************/
+package biomesoplenty.fabric.mixin;
+
+import biomesoplenty.client.fog.FluidFogProfile;
+import biomesoplenty.client.fog.FluidFogProfiles;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Camera;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.FogParameters;
+import net.minecraft.client.renderer.FogRenderer;
+import org.joml.Vector4f;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Environment(EnvType.CLIENT)
+@Mixin(FogRenderer.class)
+public abstract class MixinFogRenderer
+{
+    // The fog color is computed once per frame on the render thread and only read afterwards, so it can be reused
+    private static final Vector4f FLUID_FOG_COLOR = new Vector4f();
+
+    @Inject(method = "computeFogColor", at = @At(value = "RETURN"), cancellable = true)
+    private static void modifyFogColors(Camera camera, float f, ClientLevel level, int i, float g, CallbackInfoReturnable<Vector4f> cir)
+    {
+        FluidFogProfile profile = FluidFogProfiles.getSubmergedProfile(camera, level, f);
+
+        if (profile != null)
+        {
+            cir.setReturnValue(FLUID_FOG_COLOR.set(profile.red(), profile.green(), profile.blue(), profile.alpha()));
+        }
+    }
+
+    @Inject(method = "setupFog", at = @At("HEAD"), cancellable = true)
+    private static void setupFog(Camera camera, FogRenderer.FogMode fogMode, Vector4f vector4f, float f, boolean bl, float g, CallbackInfoReturnable<FogParameters> cir)
+    {
+        ClientLevel level = Minecraft.getInstance().level;
+
+        if (level == null)
+        {
+            return;
+        }
+
+        FluidFogProfile profile = FluidFogProfiles.getSubmergedProfile(camera, level, g);
+
+        if (profile != null)
+        {
+            cir.setReturnValue(new FogParameters(profile.start(), profile.end(), profile.shape(), vector4f.x, vector4f.y, vector4f.z, vector4f.w));
+        }
+    }
+}
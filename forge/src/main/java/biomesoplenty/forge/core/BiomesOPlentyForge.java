@@ -8,12 +8,17 @@ package biomesoplenty.forge.core;
 import biomesoplenty.core.BiomesOPlenty;
 import biomesoplenty.forge.init.ModFluidTypes;
 import biomesoplenty.init.*;
+import biomesoplenty.util.benchmark.StartupProfiler;
+import biomesoplenty.util.benchmark.WorldgenBenchmark;
 import glitchcore.forge.GlitchCoreForge;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.server.ServerStartedEvent;
 import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.fluids.FluidType;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
+import net.minecraftforge.fml.event.lifecycle.FMLLoadCompleteEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
 import net.minecraftforge.registries.DeferredRegister;
 import net.minecraftforge.registries.ForgeRegistries;
@@ -28,10 +33,17 @@ public class BiomesOPlentyForge
         IEventBus bus = FMLJavaModLoadingContext.get().getModEventBus();
         bus.addListener(this::commonSetup);
         bus.addListener(this::clientSetup);
+        bus.addListener(this::loadComplete);
 
         FORGE_FLUID_REGISTER.register(bus);
 
         BiomesOPlenty.init();
+
+        if (WorldgenBenchmark.isEnabled())
+        {
+            MinecraftForge.EVENT_BUS.addListener((ServerStartedEvent event) -> WorldgenBenchmark.start(event.getServer(), "forge"));
+        }
+
         ModFluidTypes.setup();
     }
 
@@ -48,4 +60,9 @@ public class BiomesOPlentyForge
     {
         event.enqueueWork(ModClient::setup);
     }
+
+    private void loadComplete(final FMLLoadCompleteEvent event)
+    {
+        StartupProfiler.finish();
+    }
 }
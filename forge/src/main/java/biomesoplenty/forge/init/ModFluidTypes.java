@@ -5,6 +5,9 @@
 package biomesoplenty.forge.init;
 
 import biomesoplenty.api.block.BOPBlocks;
+import biomesoplenty.api.block.BOPFluids;
+import biomesoplenty.client.fog.FluidFogProfile;
+import biomesoplenty.client.fog.FluidFogProfiles;
 import biomesoplenty.forge.core.BiomesOPlentyForge;
 import com.mojang.blaze3d.shaders.FogShape;
 import com.mojang.blaze3d.systems.RenderSystem;
@@ -19,6 +22,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.material.Fluid;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.level.pathfinder.PathType;
 import net.minecraftforge.client.extensions.common.IClientFluidTypeExtensions;
@@ -87,13 +91,13 @@ public class ModFluidTypes
                     @Override
                     public Vector3f modifyFogColor(Camera camera, float partialTick, ClientLevel level, int renderDistance, float darkenWorldAmount, Vector3f fluidFogColor)
                     {
-                        return new Vector3f(0.407F, 0.121F, 0.137F);
+                        return modifyFluidFogColor(BOPFluids.BLOOD, fluidFogColor);
                     }
 
                     @Override
                     public FogParameters modifyFogRender(Camera camera, FogRenderer.FogMode mode, float renderDistance, float partialTick, FogParameters original)
                     {
-                        return new FogParameters(0.125F, 5.0F, original.shape(), original.red(), original.green(), original.blue(), original.alpha());
+                        return modifyFluidFogRender(BOPFluids.BLOOD, original);
                     }
                 });
             }
@@ -139,19 +143,33 @@ public class ModFluidTypes
                     @Override
                     public Vector3f modifyFogColor(Camera camera, float partialTick, ClientLevel level, int renderDistance, float darkenWorldAmount, Vector3f fluidFogColor)
                     {
-                        return new Vector3f(0.0F, 0.0F, 0.0F);
+                        return modifyFluidFogColor(BOPFluids.LIQUID_NULL, fluidFogColor);
                     }
 
                     @Override
                     public FogParameters modifyFogRender(Camera camera, FogRenderer.FogMode mode, float renderDistance, float partialTick, FogParameters original)
                     {
-                        return new FogParameters(0.1F, 2.5F, original.shape(), original.red(), original.green(), original.blue(), original.alpha());
+                        return modifyFluidFogRender(BOPFluids.LIQUID_NULL, original);
                     }
                 });
             }
         }, "liquid_null");
     }
 
+    private static Vector3f modifyFluidFogColor(Fluid fluid, Vector3f fluidFogColor)
+    {
+        FluidFogProfile profile = FluidFogProfiles.getProfile(fluid);
+
+        // The color passed in is only used for this fluid, so it is overwritten rather than replaced
+        return profile != null ? fluidFogColor.set(profile.red(), profile.green(), profile.blue()) : fluidFogColor;
+    }
+
+    private static FogParameters modifyFluidFogRender(Fluid fluid, FogParameters original)
+    {
+        FluidFogProfile profile = FluidFogProfiles.getProfile(fluid);
+        return profile != null ? new FogParameters(profile.start(), profile.end(), profile.shape(), original.red(), original.green(), original.blue(), original.alpha()) : original;
+    }
+
     public static RegistryObject<FluidType> registerFluidType(Supplier<FluidType> fluidSupplier, String name)
     {
         return BiomesOPlentyForge.FORGE_FLUID_REGISTER.register(name, fluidSupplier);
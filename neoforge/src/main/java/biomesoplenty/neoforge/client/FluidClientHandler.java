@@ -4,6 +4,9 @@
  ******************************************************************************/
 package biomesoplenty.neoforge.client;
 
+import biomesoplenty.api.block.BOPFluids;
+import biomesoplenty.client.fog.FluidFogProfile;
+import biomesoplenty.client.fog.FluidFogProfiles;
 import biomesoplenty.core.BiomesOPlenty;
 import biomesoplenty.neoforge.init.ModFluidTypes;
 import com.mojang.blaze3d.shaders.FogShape;
@@ -14,6 +17,7 @@ import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.renderer.FogParameters;
 import net.minecraft.client.renderer.FogRenderer;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.material.Fluid;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.client.extensions.common.IClientFluidTypeExtensions;
@@ -48,13 +52,13 @@ public class FluidClientHandler
             @Override
             public Vector4f modifyFogColor(Camera camera, float partialTick, ClientLevel level, int renderDistance, float darkenWorldAmount, Vector4f fluidFogColor)
             {
-                return new Vector4f(0.407F, 0.121F, 0.137F, fluidFogColor.w);
+                return modifyFluidFogColor(BOPFluids.BLOOD, fluidFogColor);
             }
 
             @Override
             public FogParameters modifyFogRender(Camera camera, FogRenderer.FogMode mode, float renderDistance, float partialTick, FogParameters fogParameters)
             {
-                return new FogParameters(0.125F, 5.0F, fogParameters.shape(), fogParameters.red(), fogParameters.green(), fogParameters.blue(), fogParameters.alpha());
+                return modifyFluidFogRender(BOPFluids.BLOOD, fogParameters);
             }
         }, ModFluidTypes.BLOOD_TYPE);
 
@@ -79,14 +83,28 @@ public class FluidClientHandler
             @Override
             public Vector4f modifyFogColor(Camera camera, float partialTick, ClientLevel level, int renderDistance, float darkenWorldAmount, Vector4f fluidFogColor)
             {
-                return new Vector4f(0.0F, 0.0F, 0.0F, 0.0F);
+                return modifyFluidFogColor(BOPFluids.LIQUID_NULL, fluidFogColor);
             }
 
             @Override
             public FogParameters modifyFogRender(Camera camera, FogRenderer.FogMode mode, float renderDistance, float partialTick, FogParameters fogParameters)
             {
-                return new FogParameters(0.1F, 2.5F, fogParameters.shape(), fogParameters.red(), fogParameters.green(), fogParameters.blue(), fogParameters.alpha());
+                return modifyFluidFogRender(BOPFluids.LIQUID_NULL, fogParameters);
             }
         }, ModFluidTypes.LIQUID_NULL_TYPE);
     }
+
+    private static Vector4f modifyFluidFogColor(Fluid fluid, Vector4f fluidFogColor)
+    {
+        FluidFogProfile profile = FluidFogProfiles.getProfile(fluid);
+
+        // The color passed in is only used for this fluid, so it is overwritten rather than replaced
+        return profile != null ? fluidFogColor.set(profile.red(), profile.green(), profile.blue(), profile.alpha()) : fluidFogColor;
+    }
+
+    private static FogParameters modifyFluidFogRender(Fluid fluid, FogParameters fogParameters)
+    {
+        FluidFogProfile profile = FluidFogProfiles.getProfile(fluid);
+        return profile != null ? new FogParameters(profile.start(), profile.end(), profile.shape(), fogParameters.red(), fogParameters.green(), fogParameters.blue(), fogParameters.alpha()) : fogParameters;
+    }
 }
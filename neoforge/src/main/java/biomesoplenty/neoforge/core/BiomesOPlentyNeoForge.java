@@ -8,11 +8,16 @@ package biomesoplenty.neoforge.core;
 import biomesoplenty.core.BiomesOPlenty;
 import biomesoplenty.init.ModClient;
 import biomesoplenty.neoforge.init.ModFluidTypes;
+import biomesoplenty.util.benchmark.StartupProfiler;
+import biomesoplenty.util.benchmark.WorldgenBenchmark;
 import glitchcore.neoforge.GlitchCoreNeoForge;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.common.Mod;
 import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
 import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
+import net.neoforged.fml.event.lifecycle.FMLLoadCompleteEvent;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.server.ServerStartedEvent;
 import net.neoforged.neoforge.fluids.FluidType;
 import net.neoforged.neoforge.registries.DeferredRegister;
 import net.neoforged.neoforge.registries.NeoForgeRegistries;
@@ -26,10 +31,17 @@ public class BiomesOPlentyNeoForge
     {
         bus.addListener(this::commonSetup);
         bus.addListener(this::clientSetup);
+        bus.addListener(this::loadComplete);
 
         FORGE_FLUID_REGISTER.register(bus);
 
         BiomesOPlenty.init();
+
+        if (WorldgenBenchmark.isEnabled())
+        {
+            NeoForge.EVENT_BUS.addListener((ServerStartedEvent event) -> WorldgenBenchmark.start(event.getServer(), "neoforge"));
+        }
+
         GlitchCoreNeoForge.prepareModEventHandlers(bus);
 
         ModFluidTypes.setup();
@@ -48,4 +60,9 @@ public class BiomesOPlentyNeoForge
     {
         event.enqueueWork(ModClient::setup);
     }
+
+    private void loadComplete(final FMLLoadCompleteEvent event)
+    {
+        StartupProfiler.finish();
+    }
 }